@@ -0,0 +1,11 @@
+package com.neutral.newspaper.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 작업은 Spring Boot의 applicationTaskExecutor에서 실행
+// spring.threads.virtual.enabled=true이면 가상 스레드를 사용
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+}
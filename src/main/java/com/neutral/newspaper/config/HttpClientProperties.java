@@ -0,0 +1,39 @@
+package com.neutral.newspaper.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.http-client")
+public class HttpClientProperties {
+
+    // 전체 커넥션 풀 크기
+    private int maxConnTotal = 200;
+
+    // 라우트(호스트:포트)당 최대 커넥션 수
+    private int maxConnPerRoute = 50;
+
+    // TCP 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    // 소켓 read 제한 시간 (패킷 사이의 최대 대기 시간)
+    private Duration readTimeout = Duration.ofSeconds(60);
+
+    // 요청 전송 후 응답 헤더를 받을 때까지의 제한 시간
+    private Duration responseTimeout = Duration.ofSeconds(60);
+
+    // 풀에서 커넥션을 빌려올 때까지의 제한 시간, 풀이 가득 차면 여기서 빠르게 실패
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    // 이 시간 이상 사용되지 않은 커넥션은 백그라운드에서 정리
+    private Duration idleEvictionTime = Duration.ofSeconds(30);
+
+    // 커넥션의 최대 수명
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    // true이면 JDK HttpClient를 이용해 HTTP/2로 통신 (h2c/ALPN 지원 백엔드 전용)
+    private boolean http2Enabled = false;
+}
@@ -0,0 +1,37 @@
+package com.neutral.newspaper.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    // @JsonFilter가 붙은 DTO도 필터를 지정하지 않으면 모든 필드를 직렬화
+    // 응답별 필드 선택은 MappingJacksonValue로 필터를 지정
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false));
+    }
+
+    // 기본 CBOR/Smile 컨버터는 애플리케이션 ObjectMapper 설정(날짜 형식, 필터)을 쓰지 않으므로
+    // Spring Boot의 Jackson2ObjectMapperBuilder로 만든 컨버터로 교체
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
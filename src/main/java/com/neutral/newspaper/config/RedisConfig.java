@@ -0,0 +1,28 @@
+package com.neutral.newspaper.config;
+
+import com.neutral.newspaper.jwt.TokenRevocationListener;
+import com.neutral.newspaper.jwt.TokenRevocationService;
+import com.neutral.newspaper.news.cache.NewsCacheInvalidationListener;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 노드 간 메시지(pub/sub) 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NewsCacheInvalidationListener newsCacheInvalidationListener,
+            TokenRevocationListener tokenRevocationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(newsCacheInvalidationListener, new ChannelTopic(NewsCacheService.INVALIDATION_CHANNEL));
+        container.addMessageListener(tokenRevocationListener, new ChannelTopic(TokenRevocationService.REVOCATION_CHANNEL));
+        return container;
+    }
+}
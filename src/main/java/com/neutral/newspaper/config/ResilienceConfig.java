@@ -0,0 +1,67 @@
+package com.neutral.newspaper.config;
+
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.backend.NewsBackendProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ResilienceConfig {
+
+    private final NewsBackendProperties properties;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        NewsBackendProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                // 4xx는 요청 자체의 문제이므로 서버 장애로 집계하지 않음
+                .ignoreExceptions(HttpClientErrorException.class)
+                .ignoreException(e -> e instanceof WebClientResponseException response
+                        && response.getStatusCode().is4xxClientError())
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+
+        // 상태(state), 호출 결과, 실패율 메트릭
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        // 상태 전이는 로그와 카운터로 남김
+        registry.getEventPublisher().onEntryAdded(event -> {
+            CircuitBreaker circuitBreaker = event.getAddedEntry();
+            circuitBreaker.getEventPublisher().onStateTransition(transition -> {
+                log.warn("News backend circuit state changed. name={}, transition={}",
+                        transition.getCircuitBreakerName(), transition.getStateTransition());
+                meterRegistry.counter("news.backend.circuitbreaker.transitions",
+                        "name", transition.getCircuitBreakerName(),
+                        "from", transition.getStateTransition().getFromState().name(),
+                        "to", transition.getStateTransition().getToState().name()
+                ).increment();
+            });
+        });
+
+        // 메트릭이 첫 호출 전부터 보이도록 미리 생성
+        registry.circuitBreaker(NewsBackendGuard.MAP_BACKEND);
+        registry.circuitBreaker(NewsBackendGuard.KEYWORD_BACKEND);
+
+        return registry;
+    }
+}
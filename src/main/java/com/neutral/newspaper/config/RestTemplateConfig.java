@@ -1,13 +1,104 @@
 package com.neutral.newspaper.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+
+    private final HttpClientProperties properties;
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+                                     ClientHttpRequestFactory newsClientHttpRequestFactory) {
+        // RestTemplateBuilder를 거쳐야 http.client.requests 메트릭이 함께 기록됨
+        return restTemplateBuilder
+                .requestFactory(() -> newsClientHttpRequestFactory)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ClientHttpRequestFactory newsClientHttpRequestFactory(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                 Environment environment) {
+        if (properties.isHttp2Enabled()) {
+            return http2RequestFactory(Threading.VIRTUAL.isActive(environment));
+        }
+        return pooledRequestFactory(meterRegistry);
+    }
+
+    // Apache HttpClient 5 기반 keep-alive 커넥션 풀
+    // 요청 스레드는 가상 스레드에서 블로킹되고, 풀은 synchronized 대신 Lock을 사용하므로 캐리어가 고정되지 않음
+    private ClientHttpRequestFactory pooledRequestFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnTotal())
+                .setMaxConnPerRoute(properties.getMaxConnPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEvictionTime()))
+                .build();
+
+        // 풀 크기(leased/available/pending/max) 메트릭 등록
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "news-backend")
+                        .bindTo(registry));
+
+        // 빈 소멸 시 HttpClient와 커넥션 풀이 함께 닫힘
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    // JDK HttpClient 기반 HTTP/2, 하나의 커넥션 위에서 요청을 다중화하므로 라우트별 풀 설정은 적용되지 않음
+    private ClientHttpRequestFactory http2RequestFactory(boolean virtualThreads) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout());
+
+        // 응답 처리 콜백도 가상 스레드에서 실행
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient httpClient = builder.build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getResponseTimeout());
+        return requestFactory;
     }
 }
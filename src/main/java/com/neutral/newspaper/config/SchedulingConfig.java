@@ -0,0 +1,10 @@
+package com.neutral.newspaper.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 캐시 워머 등 주기 작업은 Spring Boot의 taskScheduler에서 실행
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
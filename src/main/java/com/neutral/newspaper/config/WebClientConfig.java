@@ -0,0 +1,38 @@
+package com.neutral.newspaper.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebClientConfig {
+
+    private final HttpClientProperties properties;
+
+    // 소수의 event loop 스레드 위에서 요약 서버로 향하는 요청 수천 개를 동시에 유지
+    @Bean
+    public WebClient newsWebClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("news-backend")
+                .maxConnections(properties.getMaxConnTotal())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEvictionTime())
+                .maxLifeTime(properties.getTimeToLive())
+                .evictInBackground(properties.getIdleEvictionTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,10 +1,17 @@
 package com.neutral.newspaper.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neutral.newspaper.jwt.JwtAuthenticationFilter;
 import com.neutral.newspaper.jwt.JwtTokenProvider;
+import com.neutral.newspaper.jwt.TokenRevocationService;
+import com.neutral.newspaper.member.service.PasswordHashingProperties;
+import com.neutral.newspaper.ratelimit.RateLimitFilter;
+import com.neutral.newspaper.ratelimit.RateLimitProperties;
+import com.neutral.newspaper.ratelimit.RedisRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
@@ -18,6 +25,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
@@ -34,15 +46,20 @@ public class SecurityConfig {
                 )
                 // 요청에 대한 인증 및 권한 부여 설정
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/member/signup", "/member/login", "/member/update-password", "/h2-console/**").permitAll() //인증 없이 접근 가능
+                        .requestMatchers("/member/signup", "/member/login", "/member/refresh", "/member/update-password", "/h2-console/**").permitAll() //인증 없이 접근 가능
+                        // 저장된 기사를 모두 다시 읽는 운영용 API는 관리자만 호출 가능
+                        .requestMatchers(HttpMethod.POST, "/sentiment/backfill").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService), UsernamePasswordAuthenticationFilter.class)
+                // 인증 정보를 기준으로 요청 수를 제한하기 위해 JWT 필터 다음에 실행
+                .addFilterAfter(new RateLimitFilter(redisRateLimiter, rateLimitProperties, objectMapper),
+                        JwtAuthenticationFilter.class)
                 .build();
     }
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
     }
 }
@@ -16,6 +16,17 @@ public enum ErrorType {
     NOT_MATCHED_PHONE_NUMBER(1006, "휴대폰 번호가 일치하지 않습니다.", HttpStatus.UNAUTHORIZED),
     NOT_MATCHED_VERIFYING_CODE(1007, "인증번호가 일치하지 않습니다.", HttpStatus.UNAUTHORIZED),
     UNAUTHORIZED_VERIFICATION(1008, "인증이 완료되지 않았습니다.", HttpStatus.UNAUTHORIZED),
+    INVALID_REFRESH_TOKEN(1009, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
+    REUSED_REFRESH_TOKEN(1010, "이미 사용된 리프레시 토큰입니다. 보안을 위해 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
+    PASSWORD_HASHING_OVERLOADED(1011, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    MAIL_SEND_FAILED(1012, "인증번호 메일을 보내지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    NEWS_BACKEND_DEGRADED(2000, "뉴스 서버가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_MAP_BATCH_REQUEST(2001, "지역과 카테고리를 하나 이상 입력해야 하며, 조합 수가 허용 범위를 넘을 수 없습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_NEWS_CURSOR(2002, "유효하지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_SENTIMENT_RANGE(2003, "조회 기간이 올바르지 않거나 허용 범위를 넘었습니다.", HttpStatus.BAD_REQUEST),
+    RATE_LIMIT_EXCEEDED(2004, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    NEWS_BACKEND_REJECTED(2005, "뉴스 서버가 요청을 처리할 수 없습니다. 검색 조건을 확인해주세요.", HttpStatus.BAD_REQUEST),
     ;
 
     private final int code;
@@ -1,9 +1,16 @@
 package com.neutral.newspaper.interest;
 
 import com.neutral.newspaper.interest.domain.Interest;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface InterestRepository extends JpaRepository<Interest, Long> {
-    Optional<Interest> findByName(String name);
+    List<Interest> findByNameIn(Collection<String> names);
+
+    // 회원의 관심사 이름을 한 번의 쿼리로 조회
+    @Query("select i.name from Member m join m.interests i where m.email = :email")
+    List<String> findNamesByMemberEmail(@Param("email") String email);
 }
@@ -1,26 +1,33 @@
 package com.neutral.newspaper.interest.domain;
 
 import com.neutral.newspaper.member.domain.Member;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "interests")
+@Table(name = "interests", uniqueConstraints = @UniqueConstraint(name = "uk_interests_name", columnNames = "name"))
 @Getter
 @NoArgsConstructor
 public class Interest {
 
+    // 시퀀스 값을 50개씩 미리 받아서(pooled), 여러 관심사를 저장할 때 id 조회 없이 INSERT를 배치로 보냄
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interest_seq")
+    @SequenceGenerator(name = "interest_seq", sequenceName = "interest_seq", allocationSize = 50)
     private Long id;
 
+    @Column(nullable = false)
     private String name;
 
     @ManyToMany(mappedBy = "interests") // 무결성을 해칠 가능성이 있기 때문에 mappedBy를 이용
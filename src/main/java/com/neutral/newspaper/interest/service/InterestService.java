@@ -0,0 +1,88 @@
+package com.neutral.newspaper.interest.service;
+
+import com.neutral.newspaper.interest.InterestRepository;
+import com.neutral.newspaper.interest.domain.Interest;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterestService {
+
+    // 다른 가입 요청이 같은 관심사를 동시에 저장해서 유니크 제약에 걸렸을 때 다시 시도하는 최대 횟수
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final InterestRepository interestRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 관심사 이름 목록을 요청 순서대로 엔티티로 변환, 없는 관심사는 새로 저장
+    // 회원 트랜잭션 밖에서 부르므로 저장 트랜잭션은 커넥션을 하나만 사용
+    public List<Interest> resolveAll(Collection<String> names) {
+        Set<String> distinctNames = names.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Interest> resolved = findByNames(distinctNames);
+        List<String> missing = distinctNames.stream()
+                .filter(name -> !resolved.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            resolved.putAll(insertMissing(missing));
+        }
+
+        if (resolved.size() < distinctNames.size()) {
+            throw new IllegalStateException("Failed to resolve interests. names=" + distinctNames);
+        }
+        return distinctNames.stream()
+                .map(resolved::get)
+                .toList();
+    }
+
+    // 없는 관심사를 한 트랜잭션에서 JDBC 배치 INSERT 한 번으로 저장, id는 시퀀스에서 미리 받아 둔 값을 사용
+    // 다른 가입 요청이 같은 이름을 먼저 저장했으면 롤백하고, 그 행이 보이는 새 트랜잭션에서 남은 것만 다시 저장
+    private Map<String, Interest> insertMissing(List<String> names) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Map<String, Interest> existing = findByNames(names);
+                    List<Interest> created = names.stream()
+                            .filter(name -> !existing.containsKey(name))
+                            .map(Interest::new)
+                            .toList();
+                    interestRepository.saveAllAndFlush(created);
+                    created.forEach(interest -> existing.put(interest.getName(), interest));
+                    return existing;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Interests created concurrently, retrying. names={}", names);
+            }
+        }
+    }
+
+    private Map<String, Interest> findByNames(Collection<String> names) {
+        return interestRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Interest::getName, Function.identity(), (first, second) -> first,
+                        HashMap::new));
+    }
+}
@@ -0,0 +1,71 @@
+package com.neutral.newspaper.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 폐기된 토큰 id 집합의 노드 로컬 근사 표현
+// 없다고 답하면 확실히 없는 것이고, 있다고 답한 경우에만 Redis로 확인
+// 비트는 CAS로 세우기 때문에 읽기와 쓰기 모두 락이 필요 없음
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(expectedInsertions, 1);
+        double fpp = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max((optimalBits + 63) / 64, 1);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64비트 해시 뒤에 비트를 섞어서, 하위 32비트와 상위 32비트를 두 개의 독립된 해시로 사용
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -7,7 +7,6 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
@@ -15,16 +14,18 @@ import org.springframework.web.filter.GenericFilterBean;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         // JWT 토큰 추출
         String token = resolveToken((HttpServletRequest) request);
 
-        // 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰 검증과 인증 정보 생성을 한 번에 처리, 로그아웃으로 폐기된 토큰은 제외
+        if (token != null) {
+            jwtTokenProvider.authenticate(token)
+                    .filter(authentication -> !tokenRevocationService.isRevoked(authentication))
+                    .ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
         }
         chain.doFilter(request, response);
     }
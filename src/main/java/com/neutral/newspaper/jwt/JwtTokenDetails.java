@@ -0,0 +1,6 @@
+package com.neutral.newspaper.jwt;
+
+// 인증 정보(Authentication.getDetails())에 담는 액세스 토큰 정보, 로그아웃과 폐기 확인에 사용
+// 이 기능 이전에 발급된 토큰은 tokenId와 family가 null
+public record JwtTokenDetails(String tokenId, String family, long expiresAt) {
+}
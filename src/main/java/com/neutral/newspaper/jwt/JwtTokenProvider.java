@@ -1,17 +1,32 @@
 package com.neutral.newspaper.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,19 +41,72 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    public static final Duration REFRESH_TOKEN_VALIDITY = Duration.ofDays(1);
+
+    private static final String AUTHORITIES_KEY = "auth";
+    private static final String TOKEN_TYPE_KEY = "typ";
+    private static final String FAMILY_KEY = "fam";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final Key key;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    // 액세스 토큰은 DB 조회 없이 검증되므로 짧게 유지하고, 만료되면 리프레시 토큰으로 교체
+    private final Duration accessTokenValidity;
+
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (스레드 안전)
+    private final JwtParser parser;
+
+    // 토큰 SHA-256 다이제스트 -> 검증이 끝난 인증 정보, 토큰 만료 시각에 함께 만료
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    // auth 클레임 문자열 -> 권한 목록, 같은 권한 조합은 요청마다 새로 만들지 않음
+    private final Map<String, List<GrantedAuthority>> authorityLists = new ConcurrentHashMap<>();
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.access-token-validity:30m}") Duration accessTokenValidity,
+                            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                            MeterRegistry meterRegistry) {
+        if (accessTokenValidity.isNegative() || accessTokenValidity.isZero()
+                || accessTokenValidity.compareTo(REFRESH_TOKEN_VALIDITY) >= 0) {
+            throw new IllegalArgumentException("jwt.access-token-validity must be positive and shorter than "
+                    + REFRESH_TOKEN_VALIDITY + ". value=" + accessTokenValidity);
+        }
+        this.accessTokenValidity = accessTokenValidity;
+
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verified");
     }
 
-    public JwtToken generateToken(Authentication authentication) {
+    public Duration getAccessTokenValidity() {
+        return accessTokenValidity;
+    }
+
+    // 리프레시 토큰은 같은 로그인에서 이어지는 토큰 묶음(family)과 토큰 자체의 id(jti)를 가짐
+    public JwtToken generateToken(Authentication authentication, String family, String tokenId) {
+        // 권한 가져오기
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return generateToken(authentication.getName(), authorities, family, tokenId);
+    }
+
+    public JwtToken generateToken(String subject, String authorities, String family, String tokenId) {
         long now = (new Date()).getTime();
 
-        String accessToken = generateAccessToken(authentication, now);
+        String accessToken = generateAccessToken(subject, authorities, family, now);
 
-        String refreshToken = generateRefreshToken(authentication, now);
+        String refreshToken = generateRefreshToken(subject, family, tokenId, now);
 
         return JwtToken.builder()
                 .grantType("Bearer")
@@ -47,71 +115,143 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    private String generateAccessToken(Authentication authentication, long now) {
-        // 권한 가져오기
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
+    // 액세스 토큰에도 id를 붙여서 로그아웃 시 만료 전에 폐기할 수 있게 함
+    private String generateAccessToken(String subject, String authorities, String family, long now) {
         return Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("auth", authorities)
-                .setExpiration(new Date(now + 1000 * 60 * 60 * 24 * 7))
+                .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
+                .claim(AUTHORITIES_KEY, authorities)
+                .claim(FAMILY_KEY, family)
+                .setExpiration(new Date(now + accessTokenValidity.toMillis()))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private String generateRefreshToken(Authentication authentication, long now) {
+    private String generateRefreshToken(String subject, String family, String tokenId, long now) {
         return Jwts.builder()
-                .setExpiration(new Date(now + 86400000))
+                .setSubject(subject)
+                .setId(tokenId)
+                .claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_KEY, family)
+                .setExpiration(new Date(now + REFRESH_TOKEN_VALIDITY.toMillis()))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // Jwt 토큰을 복호화해서 토큰에 포함된 정보를 추출하는 메서드
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-
-        if (claims.get("auth") == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+    // 리프레시 토큰의 서명과 만료만 확인, 사용 여부는 RefreshTokenService에서 Redis로 확인
+    public Optional<RefreshClaims> parseRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
         }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid refresh token");
+            return Optional.empty();
+        }
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        Object family = claims.get(FAMILY_KEY);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_KEY)) || family == null
+                || claims.getSubject() == null || claims.getId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshClaims(claims.getSubject(), family.toString(), claims.getId()));
     }
 
-    public boolean validateToken(String token) {
+    // 토큰을 한 번만 파싱해서 서명, 만료 검증과 인증 정보 생성을 함께 처리
+    // 이미 검증한 토큰은 다이제스트 조회만으로 인증 정보를 돌려줌
+    public Optional<Authentication> authenticate(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached.authentication());
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
-        } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
-        } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            log.info("Expired JWT Token");
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid JWT Token", e);
+            return Optional.empty();
+        }
+
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        if (authorities == null || claims.getSubject() == null) {
+            log.info("JWT Token without subject or authorities");
+            return Optional.empty();
+        }
+
+        Authentication authentication = toAuthentication(claims, authorities.toString());
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(authentication, claims.getExpiration().getTime()));
         }
-        return false;
+        return Optional.of(authentication);
     }
 
-    private Claims parseClaims(String accessToken) {
+    private Authentication toAuthentication(Claims claims, String authorities) {
+        List<GrantedAuthority> grantedAuthorities = authorityLists.computeIfAbsent(authorities, value ->
+                Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        // 권한이 없는 회원은 빈 문자열이 들어오므로 제외
+                        .filter(authority -> !authority.isEmpty())
+                        .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority))
+                        .toList());
+
+        UserDetails principal = new User(claims.getSubject(), "", grantedAuthorities);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, "", grantedAuthorities);
+        Object family = claims.get(FAMILY_KEY);
+        Date expiration = claims.getExpiration();
+        authentication.setDetails(new JwtTokenDetails(claims.getId(), family == null ? null : family.toString(),
+                expiration == null ? 0 : expiration.getTime()));
+        return authentication;
+    }
+
+    private static String digest(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record RefreshClaims(String subject, String family, String tokenId) {
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAt) {
+    }
+
+    // 항목마다 토큰의 exp 시각에 만료
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            return remainingNanos(token);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return remainingNanos(token);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(VerifiedToken token) {
+            long remainingMillis = Math.max(0, token.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
         }
     }
 }
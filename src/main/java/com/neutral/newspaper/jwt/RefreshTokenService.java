@@ -0,0 +1,153 @@
+package com.neutral.newspaper.jwt;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.jwt.JwtTokenProvider.RefreshClaims;
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+// 리프레시 토큰 발급과 교체
+// 로그인 한 번에서 이어지는 토큰 묶음(family)마다 Redis 해시 하나에 현재 유효한 토큰 id를 저장하고,
+// 사용할 때마다 새 토큰 id로 바꿈. 이미 교체된 토큰이 다시 들어오면 탈취로 보고 묶음 전체를 폐기
+// (묶음 id와 토큰 id는 각각 따로 만든 UUID)
+// 회원별로 토큰 묶음 목록을 두어 비밀번호를 바꾸면 모든 로그인의 토큰을 폐기
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    // 확인, 교체, 재사용 감지를 왕복 한 번으로 처리
+    // 응답을 받지 못한 클라이언트의 재시도나 탭 여러 개의 동시 요청처럼 방금 교체된 토큰이 grace 안에 다시 들어오면
+    // 재사용으로 보지 않고 현재 토큰 id로 다시 발급
+    // KEYS[1]: 토큰 묶음 키, ARGV[1]: 제시된 토큰 id, ARGV[2]: 새 토큰 id, ARGV[3]: 유효 기간(ms), ARGV[4]: 토큰 subject,
+    // ARGV[5]: grace(ms)
+    // 반환: {"rotated", 권한} | {"grace", 권한, 현재 토큰 id} | {"reused"} | {"invalid"}
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+            local family = redis.call('HMGET', KEYS[1], 'jti', 'sub', 'auth', 'prev', 'prev_until')
+            if not family[1] or family[2] ~= ARGV[4] then
+              return {'invalid'}
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if family[1] ~= ARGV[1] then
+              if family[4] == ARGV[1] and now < (tonumber(family[5]) or 0) then
+                return {'grace', family[3] or '', family[1]}
+              end
+              redis.call('DEL', KEYS[1])
+              return {'reused'}
+            end
+            redis.call('HSET', KEYS[1], 'jti', ARGV[2], 'prev', ARGV[1], 'prev_until', tostring(now + tonumber(ARGV[5])))
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return {'rotated', family[3] or ''}
+            """, List.class);
+
+    private static final String KEY_PREFIX = "jwt:refresh:";
+    // 회원별 토큰 묶음 목록(sorted set), 점수는 묶음의 만료 시각
+    private static final String MEMBER_KEY_PREFIX = "jwt:refresh:member:";
+    // 방금 교체된 토큰을 재사용으로 보지 않는 시간
+    private static final Duration ROTATION_GRACE = Duration.ofSeconds(10);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RedisService redisService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+
+    // 로그인 시 새 토큰 묶음을 만들고 첫 토큰을 발급
+    public JwtToken issue(Authentication authentication) {
+        String family = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        redisService.saveHash(KEY_PREFIX + family,
+                Map.of("jti", tokenId, "sub", authentication.getName(), "auth", authorities),
+                JwtTokenProvider.REFRESH_TOKEN_VALIDITY.toMillis(), TimeUnit.MILLISECONDS);
+        track(authentication.getName(), family);
+
+        return jwtTokenProvider.generateToken(authentication.getName(), authorities, family, tokenId);
+    }
+
+    // 리프레시 토큰을 새 액세스 토큰과 리프레시 토큰으로 교체, DB 조회와 비밀번호 검증 없이 처리
+    public JwtToken rotate(String refreshToken) {
+        RefreshClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken)
+                .orElseThrow(() -> {
+                    record("invalid");
+                    return new CustomException(ErrorType.INVALID_REFRESH_TOKEN);
+                });
+
+        String nextTokenId = UUID.randomUUID().toString();
+        List<?> result = redisService.executeScript(ROTATE_SCRIPT, List.of(KEY_PREFIX + claims.family()),
+                claims.tokenId(), nextTokenId,
+                String.valueOf(JwtTokenProvider.REFRESH_TOKEN_VALIDITY.toMillis()), claims.subject(),
+                String.valueOf(ROTATION_GRACE.toMillis()));
+
+        String status = result == null || result.isEmpty() ? "invalid" : String.valueOf(result.get(0));
+        record(status);
+
+        if ("reused".equals(status)) {
+            // 탈취된 리프레시 토큰으로 이미 발급받은 액세스 토큰도 함께 폐기
+            tokenRevocationService.revokeFamily(claims.family(),
+                    System.currentTimeMillis() + jwtTokenProvider.getAccessTokenValidity().toMillis());
+            log.warn("Refresh token reuse detected. Revoked token family. subject={}, family={}",
+                    claims.subject(), claims.family());
+            throw new CustomException(ErrorType.REUSED_REFRESH_TOKEN);
+        }
+        if ("grace".equals(status)) {
+            // 먼저 처리된 요청이 받은 토큰과 같은 토큰 id로 발급해서 두 응답 모두 다음 교체에 쓸 수 있게 함
+            return jwtTokenProvider.generateToken(claims.subject(), String.valueOf(result.get(1)), claims.family(),
+                    String.valueOf(result.get(2)));
+        }
+        if (!"rotated".equals(status)) {
+            throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN);
+        }
+
+        // 교체할 때마다 묶음의 만료 시간이 늘어나므로 회원별 목록의 만료 시각도 함께 갱신
+        track(claims.subject(), claims.family());
+        String authorities = result.size() > 1 ? String.valueOf(result.get(1)) : "";
+        return jwtTokenProvider.generateToken(claims.subject(), authorities, claims.family(), nextTokenId);
+    }
+
+    // 로그아웃 시 같은 로그인에서 발급된 리프레시 토큰과 액세스 토큰을 모두 폐기
+    public void revokeFamily(String family) {
+        if (family != null) {
+            redisService.deleteData(KEY_PREFIX + family);
+            tokenRevocationService.revokeFamily(family,
+                    System.currentTimeMillis() + jwtTokenProvider.getAccessTokenValidity().toMillis());
+        }
+    }
+
+    // 비밀번호를 바꾸거나 초기화하면 회원의 모든 로그인에서 발급된 토큰을 폐기
+    public void revokeAll(String subject) {
+        String key = MEMBER_KEY_PREFIX + subject;
+        for (String family : redisService.getMembersFromScore(key, System.currentTimeMillis())) {
+            revokeFamily(family);
+        }
+        redisService.deleteData(key);
+    }
+
+    // 회원별 목록은 마지막 발급 또는 교체 후 유효 기간이 지나면 만료되고, 이미 만료된 묶음은 이때 함께 정리
+    private void track(String subject, String family) {
+        long now = System.currentTimeMillis();
+        long validity = JwtTokenProvider.REFRESH_TOKEN_VALIDITY.toMillis();
+        String key = MEMBER_KEY_PREFIX + subject;
+        redisService.addScore(key, family, now + validity, validity, TimeUnit.MILLISECONDS);
+        redisService.removeByMaxScore(key, now);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("jwt.refresh", "result", result).increment();
+    }
+}
@@ -0,0 +1,20 @@
+package com.neutral.newspaper.jwt;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+// 다른 노드에서 폐기한 토큰 id를 이 노드의 블룸 필터에 추가
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationListener implements MessageListener {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        tokenRevocationService.handleRevocation(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
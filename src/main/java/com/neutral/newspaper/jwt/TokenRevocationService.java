@@ -0,0 +1,167 @@
+package com.neutral.newspaper.jwt;
+
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+// 만료 전 액세스 토큰 폐기 (로그아웃, 리프레시 토큰 재사용 감지)
+// 폐기된 토큰 id는 Redis에 토큰 만료 시각까지 저장하고, 노드마다 블룸 필터로 들고 있어서
+// 대부분의 요청은 Redis를 거치지 않고 통과, 블룸 필터가 있다고 답한 경우에만 Redis로 확인
+// 다른 노드의 폐기는 pub/sub으로 바로 반영하고, 놓친 메시지와 만료된 id는 주기적인 재구성으로 정리
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    public static final String REVOCATION_CHANNEL = "jwt:revocation";
+
+    private static final String KEY_PREFIX = "jwt:revoked:";
+
+    // 토큰 묶음(family) 전체를 폐기할 때 토큰 id 대신 사용하는 id, 토큰 id(UUID)와 겹치지 않음
+    private static final String FAMILY_PREFIX = "fam:";
+
+    // 재구성할 때 읽는 폐기 목록, 점수는 토큰 만료 시각(ms)
+    private static final String INDEX_KEY = "jwt:revoked";
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final AtomicInteger revokedCount = new AtomicInteger();
+
+    private volatile BloomFilter filter;
+
+    // 재구성 중에 들어온 폐기도 새 필터에 반영
+    private volatile BloomFilter rebuilding;
+
+    // 필터 교체와 추가가 엇갈려서 폐기가 빠지지 않도록 두 작업만 짧게 잠금, 조회는 잠그지 않음
+    private final Object filterLock = new Object();
+
+    public TokenRevocationService(RedisService redisService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        meterRegistry.gauge("jwt.revocation.size", revokedCount);
+    }
+
+    public void revoke(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof JwtTokenDetails details) {
+            revoke(details.tokenId(), details.expiresAt());
+        }
+    }
+
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId != null) {
+            deny(tokenId, expiresAt);
+        }
+    }
+
+    // 같은 로그인에서 발급된 액세스 토큰을 모두 폐기, expiresAt은 그중 가장 늦게 만료되는 토큰의 만료 시각
+    public void revokeFamily(String family, long expiresAt) {
+        if (family != null) {
+            deny(FAMILY_PREFIX + family, expiresAt);
+        }
+    }
+
+    // 토큰 id와 토큰 묶음 중 하나라도 폐기되었으면 폐기된 토큰
+    public boolean isRevoked(Authentication authentication) {
+        if (!(authentication.getDetails() instanceof JwtTokenDetails details) || details.tokenId() == null) {
+            return false;
+        }
+        String familyId = details.family() == null ? null : FAMILY_PREFIX + details.family();
+        boolean tokenHit = filter.mightContain(details.tokenId());
+        boolean familyHit = familyId != null && filter.mightContain(familyId);
+        if (!tokenHit && !familyHit) {
+            record("bloom_miss");
+            return false;
+        }
+
+        try {
+            boolean revoked = (tokenHit && redisService.getData(KEY_PREFIX + details.tokenId()) != null)
+                    || (familyHit && redisService.getData(KEY_PREFIX + familyId) != null);
+            record(revoked ? "revoked" : "false_positive");
+            return revoked;
+        } catch (DataAccessException e) {
+            // 블룸 필터가 폐기 가능성을 알렸는데 확인할 수 없으면 거부
+            log.warn("Failed to check token revocation. tokenId={}", details.tokenId(), e);
+            record("error");
+            return true;
+        }
+    }
+
+    // 다른 노드에서 폐기한 토큰 id
+    public void handleRevocation(String tokenId) {
+        add(tokenId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval:PT10M}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval:PT10M}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        // 폐기 목록은 Redis에 먼저 쓰고 필터에 추가하므로, 이 시점 이전의 폐기는 아래 조회에 포함되고 이후의 폐기는 next에도 추가됨
+        synchronized (filterLock) {
+            rebuilding = next;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            redisService.removeByMaxScore(INDEX_KEY, now);
+            Set<String> tokenIds = redisService.getMembersFromScore(INDEX_KEY, now);
+            tokenIds.forEach(next::put);
+            synchronized (filterLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            revokedCount.set(tokenIds.size());
+            log.debug("Rebuilt token revocation filter. size={}", tokenIds.size());
+        } catch (DataAccessException e) {
+            // 기존 필터를 그대로 사용
+            log.warn("Failed to rebuild token revocation filter", e);
+            synchronized (filterLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    // id는 토큰 id 또는 FAMILY_PREFIX가 붙은 토큰 묶음 id
+    private void deny(String id, long expiresAt) {
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        redisService.saveData(KEY_PREFIX + id, "1", ttlMillis, TimeUnit.MILLISECONDS);
+        redisService.addScore(INDEX_KEY, id, expiresAt);
+        add(id);
+        redisService.publish(REVOCATION_CHANNEL, id);
+    }
+
+    private void add(String tokenId) {
+        synchronized (filterLock) {
+            filter.put(tokenId);
+            if (rebuilding != null) {
+                rebuilding.put(tokenId);
+            }
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("jwt.revocation.checks", "result", result).increment();
+    }
+}
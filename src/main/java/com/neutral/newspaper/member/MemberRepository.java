@@ -3,7 +3,17 @@ package com.neutral.newspaper.member;
 import com.neutral.newspaper.member.domain.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
+
+    // 해시 계산이 끝난 뒤 UPDATE 한 번으로 반영, 계산하는 동안 트랜잭션과 커넥션을 잡고 있지 않음
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.password = :password where m.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 }
@@ -4,6 +4,7 @@ import com.neutral.newspaper.jwt.JwtToken;
 import com.neutral.newspaper.member.dto.FindPasswordDto;
 import com.neutral.newspaper.member.dto.JoinRequestDto;
 import com.neutral.newspaper.member.dto.LoginRequestDto;
+import com.neutral.newspaper.member.dto.RefreshTokenRequestDto;
 import com.neutral.newspaper.member.dto.ResetPasswordDto;
 import com.neutral.newspaper.member.dto.UpdatePasswordDto;
 import com.neutral.newspaper.member.dto.VerifyCodeDto;
@@ -34,6 +35,18 @@ public class MemberController {
         return ResponseEntity.ok(jwtToken);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtToken> refresh(@RequestBody RefreshTokenRequestDto refreshTokenRequest) {
+        JwtToken jwtToken = memberService.refresh(refreshTokenRequest);
+        return ResponseEntity.ok(jwtToken);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        memberService.logout();
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/update-password")
     public ResponseEntity<Void> updatePassword(@RequestBody UpdatePasswordDto updatePasswordRequest) {
         memberService.updatePassword(updatePasswordRequest);
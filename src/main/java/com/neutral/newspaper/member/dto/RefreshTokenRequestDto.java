@@ -0,0 +1,12 @@
+package com.neutral.newspaper.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+    private String refreshToken;
+}
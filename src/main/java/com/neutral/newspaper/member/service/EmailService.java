@@ -1,20 +1,52 @@
 package com.neutral.newspaper.member.service;
 
-import lombok.RequiredArgsConstructor;
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender mailSender;
 
+    // Jakarta Mail은 synchronized 블록 안에서 SMTP I/O를 수행해서 가상 스레드가 캐리어에 고정됨
+    // 동시에 전송하는 수를 제한해서 캐리어 스레드가 모두 묶이지 않도록 함
+    private final Semaphore sendPermits;
+
+    public EmailService(JavaMailSender mailSender, @Value("${news.mail.max-concurrent-sends:2}") int maxConcurrentSends) {
+        this.mailSender = mailSender;
+        this.sendPermits = new Semaphore(maxConcurrentSends);
+    }
+
+    // 전송에 실패하면 사용자가 받지 못한 인증번호로 성공 응답을 받지 않도록 예외를 던짐
+    // 요청은 가상 스레드에서 처리되므로 SMTP 응답을 기다려도 플랫폼 스레드를 점유하지 않음
     public void sendVerificationCode(String emailAddress, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(emailAddress);
         message.setSubject(subject);
         message.setText(text);
-        mailSender.send(message);
+
+        try {
+            sendPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted before sending verification code. to={}", emailAddress);
+            throw new CustomException(ErrorType.MAIL_SEND_FAILED);
+        }
+
+        try {
+            mailSender.send(message);
+        } catch (MailException e) {
+            log.error("Failed to send verification code. to={}", emailAddress, e);
+            throw new CustomException(ErrorType.MAIL_SEND_FAILED);
+        } finally {
+            sendPermits.release();
+        }
     }
 }
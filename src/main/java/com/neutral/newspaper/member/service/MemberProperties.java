@@ -0,0 +1,16 @@
+package com.neutral.newspaper.member.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member")
+public class MemberProperties {
+
+    // 로그인할 때 관리자 권한(ROLE_ADMIN)을 함께 발급할 운영자 이메일, 감정 집계 백필 같은 운영용 API에 필요
+    private Set<String> adminEmails = new HashSet<>();
+}
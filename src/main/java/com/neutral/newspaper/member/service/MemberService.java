@@ -2,40 +2,54 @@ package com.neutral.newspaper.member.service;
 
 import com.neutral.newspaper.global.CustomException;
 import com.neutral.newspaper.global.ErrorType;
-import com.neutral.newspaper.interest.InterestRepository;
 import com.neutral.newspaper.interest.domain.Interest;
+import com.neutral.newspaper.interest.service.InterestService;
 import com.neutral.newspaper.jwt.JwtToken;
-import com.neutral.newspaper.jwt.JwtTokenProvider;
+import com.neutral.newspaper.jwt.JwtTokenDetails;
+import com.neutral.newspaper.jwt.RefreshTokenService;
+import com.neutral.newspaper.jwt.TokenRevocationService;
 import com.neutral.newspaper.member.MemberRepository;
 import com.neutral.newspaper.member.domain.Member;
 import com.neutral.newspaper.member.dto.FindPasswordDto;
 import com.neutral.newspaper.member.dto.JoinRequestDto;
 import com.neutral.newspaper.member.dto.LoginRequestDto;
+import com.neutral.newspaper.member.dto.RefreshTokenRequestDto;
 import com.neutral.newspaper.member.dto.ResetPasswordDto;
 import com.neutral.newspaper.member.dto.UpdatePasswordDto;
 import com.neutral.newspaper.member.dto.VerifyCodeDto;
 import com.neutral.newspaper.redis.RedisService;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
     private final MemberRepository memberRepository;
-    private final InterestRepository interestRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final InterestService interestService;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final RedisService redisService;
     private final EmailService emailService;
+    private final MemberProperties memberProperties;
 
-    @Transactional
+    // 해시 계산은 트랜잭션 밖에서 하고, 저장만 트랜잭션 안에서 처리해 계산하는 동안 DB 커넥션을 잡지 않음
     public String registerMember(JoinRequestDto joinRequest) {
         if (memberRepository.findByEmail(joinRequest.getEmail()).isPresent()) {
             throw new CustomException(ErrorType.DUPLICATED_EMAIL);
@@ -45,48 +59,66 @@ public class MemberService {
             throw new CustomException(ErrorType.INVALID_PASSWORD_FORMAT);
         }
 
-        String encodedPassword = passwordEncoder.encode(joinRequest.getPassword());
-
         if (!isValidPhoneNumber(joinRequest.getPhoneNumber())) {
             throw new CustomException(ErrorType.INVALID_PHONE_NUMBER_FORMAT);
         }
 
-        Member member = Member.builder()
-                .name(joinRequest.getName())
-                .email(joinRequest.getEmail())
-                .password(encodedPassword)
-                .phoneNumber(joinRequest.getPhoneNumber())
-                .build();
+        String encodedPassword = passwordHashingService.encode(joinRequest.getPassword());
 
-        List<Interest> interests = joinRequest.getInterestNames().stream()
-                        .map(name -> interestRepository.findByName(name)
-                                .orElseGet(() -> interestRepository.save(new Interest(name))))
-                        .toList();
+        // 관심사는 회원 트랜잭션 전에 준비, 없는 것만 저장하고 이름 목록으로 한 번에 조회
+        List<Interest> interests = interestService.resolveAll(joinRequest.getInterestNames());
 
-        member.setInterests(interests);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = Member.builder()
+                    .name(joinRequest.getName())
+                    .email(joinRequest.getEmail())
+                    .password(encodedPassword)
+                    .phoneNumber(joinRequest.getPhoneNumber())
+                    .build();
 
-        memberRepository.save(member);
+            member.setInterests(new ArrayList<>(interests));
+
+            memberRepository.save(member);
+        });
 
         return "회원가입이 완료되었습니다.";
     }
 
-    @Transactional
     public JwtToken login(LoginRequestDto loginRequest) {
         // 존재하지 않는 회원일 경우
         Member member = memberRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new CustomException(ErrorType.NOT_REGISTERED_MEMBER));
 
         // 패스워드가 일치하지 않는 경우
-        if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(loginRequest.getPassword(), member.getPassword())) {
             throw new CustomException(ErrorType.NOT_MATCHED_PASSWORD);
         }
 
-        Authentication authentication = new UsernamePasswordAuthenticationToken(member.getEmail(), member.getPassword());
+        rehashIfNeeded(member, loginRequest.getPassword());
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(member.getEmail(), member.getPassword(),
+                authoritiesOf(member.getEmail()));
 
-        return jwtTokenProvider.generateToken(authentication);
+        return refreshTokenService.issue(authentication);
+    }
+
+    // 액세스 토큰이 만료되면 로그인 대신 리프레시 토큰으로 새 토큰을 발급
+    public JwtToken refresh(RefreshTokenRequestDto refreshTokenRequest) {
+        return refreshTokenService.rotate(refreshTokenRequest.getRefreshToken());
+    }
+
+    // 같은 로그인에서 발급된 액세스 토큰과 리프레시 토큰을 모두 더 이상 쓸 수 없게 함
+    // 토큰 묶음 정보가 없는 토큰은 현재 액세스 토큰만 폐기
+    public void logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtTokenDetails details
+                && details.family() != null) {
+            refreshTokenService.revokeFamily(details.family());
+            return;
+        }
+        tokenRevocationService.revoke(authentication);
     }
 
-    @Transactional
     public void updatePassword(UpdatePasswordDto updatePasswordRequest) {
         // 현재 인증된 사용자 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -97,7 +129,7 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(ErrorType.MEMBER_NOT_FOUND));
 
         // 기존 비밀번호가 일치하지 않는 경우
-        if (!passwordEncoder.matches(updatePasswordRequest.getOldPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(updatePasswordRequest.getOldPassword(), member.getPassword())) {
             throw new CustomException(ErrorType.NOT_MATCHED_PASSWORD);
         }
 
@@ -106,10 +138,14 @@ public class MemberService {
             throw new CustomException(ErrorType.INVALID_PASSWORD_FORMAT);
         }
 
-        member.updatePassword(passwordEncoder.encode(updatePasswordRequest.getNewPassword()));
+        memberRepository.updatePasswordByEmail(email, passwordHashingService.encode(updatePasswordRequest.getNewPassword()));
+
+        // 이전 비밀번호로 로그인한 모든 기기의 토큰을 폐기
+        refreshTokenService.revokeAll(email);
     }
 
-    @Transactional
+    // 메일 전송을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회만 함
+    // 메일을 보내지 못하면 인증번호를 저장하지 않고 예외를 전달
     public void sendPasswordResetCode(FindPasswordDto findPasswordRequest) {
         Member member = memberRepository.findByEmail(findPasswordRequest.getEmail())
                 .orElseThrow(() -> new CustomException(ErrorType.MEMBER_NOT_FOUND));
@@ -135,7 +171,6 @@ public class MemberService {
         redisService.saveData(verifyCodeRequest.getEmail() + ":verified", "true", 5, TimeUnit.MINUTES);
     }
 
-    @Transactional
     public void resetPassword(ResetPasswordDto resetPasswordRequest) {
         Member member = memberRepository.findByEmail(resetPasswordRequest.getEmail())
                 .orElseThrow(() -> new CustomException(ErrorType.MEMBER_NOT_FOUND));
@@ -151,10 +186,37 @@ public class MemberService {
             throw new CustomException(ErrorType.INVALID_PASSWORD_FORMAT);
         }
 
-        member.updatePassword(passwordEncoder.encode(resetPasswordRequest.getNewPassword()));
+        memberRepository.updatePasswordByEmail(member.getEmail(),
+                passwordHashingService.encode(resetPasswordRequest.getNewPassword()));
 
         // 인증 성공 후 인증 완료 상태를 삭제
         redisService.deleteData(resetPasswordRequest.getEmail() + ":verified");
+
+        // 이전 비밀번호로 로그인한 모든 기기의 토큰을 폐기
+        refreshTokenService.revokeAll(member.getEmail());
+    }
+
+    // 저장된 해시의 비용 계수가 설정보다 낮으면 로그인에 성공한 비밀번호로 다시 해시해서 저장
+    // 해시 풀이 바쁘거나 저장에 실패해도 로그인은 그대로 진행하고 다음 로그인에서 다시 시도
+    private void rehashIfNeeded(Member member, String rawPassword) {
+        if (!passwordHashingService.needsRehash(member.getPassword())) {
+            return;
+        }
+        try {
+            memberRepository.updatePasswordByEmail(member.getEmail(), passwordHashingService.encode(rawPassword));
+        } catch (CustomException e) {
+            log.info("Skipped password rehash. email={}", member.getEmail());
+        } catch (DataAccessException e) {
+            log.warn("Failed to store rehashed password. email={}", member.getEmail(), e);
+        }
+    }
+
+    // 운영자로 지정된 이메일에만 관리자 권한을 부여, 권한은 리프레시 토큰으로 재발급할 때도 유지됨
+    private List<GrantedAuthority> authoritiesOf(String email) {
+        if (memberProperties.getAdminEmails().contains(email)) {
+            return List.of(new SimpleGrantedAuthority(ADMIN_AUTHORITY));
+        }
+        return List.of();
     }
 
     private boolean isValidPassword(String password) {
@@ -0,0 +1,25 @@
+package com.neutral.newspaper.member.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.password-hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt 비용 계수(log2 라운드 수), 올리면 다음 로그인 때 기존 해시를 새 비용으로 다시 저장
+    private int strength = 10;
+
+    // 해시 계산 전용 스레드 수, CPU를 모두 쓰지 않도록 코어 수보다 작게 유지
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    // 대기열이 가득 차면 바로 503으로 거절
+    private int queueCapacity = 64;
+
+    // 대기열에서 이 시간 안에 계산을 시작하지 못하면 거절
+    // BCrypt 계산은 중간에 멈출 수 없으므로 이미 시작한 계산은 끝날 때까지 기다림
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,137 @@
+package com.neutral.newspaper.member.service;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+// BCrypt 계산을 요청 스레드가 아닌 전용 스레드 풀에서 실행
+// 요청 스레드가 가상 스레드라서 CPU를 오래 쓰는 작업의 동시 실행 수를 따로 제한해야 함
+// 풀과 대기열이 가득 차거나 제한 시간 안에 계산을 시작하지 못하면 503으로 거절
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String METRIC_PREFIX = "member.password.hashing";
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 비용 계수가 설정값보다 낮으면 true, 해시 계산 없이 문자열만 확인
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        // 작업 스레드(시작)와 요청 스레드(제한 시간 초과) 중 먼저 가져간 쪽이 결과를 정함
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    // 대기하는 동안 제한 시간이 지나 이미 거절된 요청
+                    return null;
+                }
+                long startedAt = System.nanoTime();
+                timer("wait", operation).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer("duration", operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reject(operation, "queue_full");
+            throw new CustomException(ErrorType.PASSWORD_HASHING_OVERLOADED);
+        }
+
+        try {
+            try {
+                return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    reject(operation, "timeout");
+                    throw new CustomException(ErrorType.PASSWORD_HASHING_OVERLOADED);
+                }
+                // 이미 시작한 계산은 비용 계수만큼의 시간 안에 끝나므로 결과를 버리지 않고 기다림
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorType.PASSWORD_HASHING_OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(METRIC_PREFIX + "." + name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private void reject(String operation, String reason) {
+        log.warn("Password hashing rejected. operation={}, reason={}, queued={}",
+                operation, reason, executor.getQueue().size());
+        meterRegistry.counter(METRIC_PREFIX + ".rejected", "operation", operation, "reason", reason).increment();
+    }
+}
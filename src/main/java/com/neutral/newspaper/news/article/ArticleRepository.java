@@ -0,0 +1,31 @@
+package com.neutral.newspaper.news.article;
+
+import com.neutral.newspaper.news.article.domain.Article;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArticleRepository extends JpaRepository<Article, Long> {
+    List<Article> findByUrlHashIn(Collection<String> urlHashes);
+
+    // 색인 준비용, 최근 기사부터 id 기준으로 나눠서 조회
+    List<Article> findTop500ByOrderByArticleIdDesc();
+
+    List<Article> findTop500ByArticleIdLessThanOrderByArticleIdDesc(Long articleId);
+
+    // 감정 집계 백필용, 토픽에 연결된 기사를 id 기준으로 나눠서 조회
+    @Query("select a from Article a join a.topics t where t = :topic and a.articleId < :articleId "
+            + "order by a.articleId desc")
+    List<Article> findByTopicBefore(@Param("topic") String topic, @Param("articleId") Long articleId,
+                                    Pageable pageable);
+
+    // topic의 %, _ 는 '!'로 이스케이프해서 전달
+    @Query("select a from Article a "
+            + "where a.title like concat('%', :topic, '%') escape '!' "
+            + "or a.contentSummarized like concat('%', :topic, '%') escape '!' "
+            + "order by a.publishedDate desc")
+    List<Article> searchByTopic(@Param("topic") String topic, Pageable pageable);
+}
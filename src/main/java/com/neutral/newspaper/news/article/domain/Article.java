@@ -0,0 +1,136 @@
+package com.neutral.newspaper.news.article.domain;
+
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "articles", uniqueConstraints = @UniqueConstraint(name = "uk_articles_url_hash", columnNames = "url_hash"))
+public class Article {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long articleId;
+
+    // URL은 길어서 인덱스로 쓰기 어렵기 때문에 SHA-256 해시로 고유 인덱스를 만듦
+    @Column(nullable = false, length = 64)
+    private String urlHash;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(length = 500)
+    private String title;
+
+    private LocalDate publishedDate;
+
+    @Lob
+    private String content;
+
+    private String sentiment;
+
+    @Lob
+    private String contentSummarized;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 이 기사가 검색된 정규화 토픽, 감정 집계 백필에 사용
+    @ElementCollection
+    @CollectionTable(name = "article_topics", joinColumns = @JoinColumn(name = "article_id"),
+            indexes = @Index(name = "idx_article_topics_topic", columnList = "topic"))
+    @Column(name = "topic", nullable = false, length = 200)
+    @BatchSize(size = 100)
+    private Set<String> topics = new HashSet<>();
+
+    @Builder
+    public Article(String url, String title, LocalDate publishedDate, String content, String sentiment,
+                   String contentSummarized) {
+        this.urlHash = hashUrl(url);
+        this.url = url;
+        this.title = title;
+        this.publishedDate = publishedDate;
+        this.content = content;
+        this.sentiment = sentiment;
+        this.contentSummarized = contentSummarized;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static Article from(NewsSummaryDto newsSummary) {
+        return Article.builder()
+                .url(newsSummary.getUrl())
+                .title(newsSummary.getTitle())
+                .publishedDate(newsSummary.getDate())
+                .content(newsSummary.getContent())
+                .sentiment(newsSummary.getSentiment())
+                .contentSummarized(newsSummary.getContentSummarized())
+                .build();
+    }
+
+    // 새로 받은 요약으로 갱신, 비어 있는 값으로 기존 요약을 덮어쓰지 않음
+    public void update(NewsSummaryDto newsSummary) {
+        if (newsSummary.getTitle() != null) {
+            this.title = newsSummary.getTitle();
+        }
+        if (newsSummary.getDate() != null) {
+            this.publishedDate = newsSummary.getDate();
+        }
+        if (newsSummary.getContent() != null) {
+            this.content = newsSummary.getContent();
+        }
+        if (newsSummary.getSentiment() != null) {
+            this.sentiment = newsSummary.getSentiment();
+        }
+        if (newsSummary.getContentSummarized() != null) {
+            this.contentSummarized = newsSummary.getContentSummarized();
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void addTopic(String topic) {
+        if (topic != null && !topic.isBlank()) {
+            topics.add(topic);
+        }
+    }
+
+    public boolean isSummarized() {
+        return sentiment != null && contentSummarized != null;
+    }
+
+    public NewsSummaryDto toNewsSummary() {
+        return new NewsSummaryDto(title, url, publishedDate, content, sentiment, contentSummarized);
+    }
+
+    public static String hashUrl(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.trim().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.neutral.newspaper.news.article.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.article.index")
+public class ArticleIndexProperties {
+
+    // false이면 항상 요약 서버에 요청
+    private boolean enabled = true;
+
+    // 색인에 유지할 최대 기사 수, 넘으면 가장 오래 전에 색인된 기사부터 제거
+    private int maxDocuments = 50_000;
+
+    // 색인으로 응답하려면 검색어 토큰 중 이 비율 이상을 포함한 기사가 필요
+    private double minTermCoverage = 0.8;
+
+    // 조건을 만족하는 기사가 이 수보다 적으면 요약 서버에 요청
+    private int minResults = 10;
+
+    // 색인 응답에 포함할 최대 기사 수
+    private int maxResults = 50;
+
+    // 이 기간 안에 발행된 기사만 색인 응답에 사용
+    private Duration maxAge = Duration.ofDays(3);
+
+    // 토픽을 마지막으로 요약 서버에서 가져온 뒤 이 시간이 지나면 색인으로 응답하면서 백그라운드에서 다시 가져옴
+    private Duration freshFor = Duration.ofMinutes(10);
+}
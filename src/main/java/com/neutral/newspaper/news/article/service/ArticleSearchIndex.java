@@ -0,0 +1,238 @@
+package com.neutral.newspaper.news.article.service;
+
+import com.neutral.newspaper.news.article.ArticleRepository;
+import com.neutral.newspaper.news.article.domain.Article;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+// 저장된 기사의 제목과 요약으로 만든 노드 내부 역색인
+// 한국어는 형태소 분석 없이 글자 bigram으로 색인하고 BM25로 순위를 매김
+@Slf4j
+@Component
+public class ArticleSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int WARM_UP_BATCH_SIZE = 500;
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 색인된 순서를 유지해서 상한을 넘으면 가장 오래된 기사부터 제거
+    private final LinkedHashMap<String, Document> documents = new LinkedHashMap<>();
+    // 토큰 → (URL 해시 → 기사 안 등장 횟수)
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer searchTimer;
+
+    public ArticleSearchIndex(ArticleRepository articleRepository, ArticleIndexProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+        this.hits = Counter.builder("news.article.index.queries").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("news.article.index.queries").tag("result", "miss").register(meterRegistry);
+        this.searchTimer = Timer.builder("news.article.index.search").register(meterRegistry);
+        meterRegistry.gauge("news.article.index.documents", this, ArticleSearchIndex::size);
+    }
+
+    // 시작 시 최근 기사부터 상한까지 색인, 요청 처리를 막지 않도록 비동기로 실행
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Article> batch = articleRepository.findTop500ByOrderByArticleIdDesc();
+        int loaded = 0;
+        while (!batch.isEmpty() && loaded < properties.getMaxDocuments()) {
+            index(batch);
+            loaded += batch.size();
+            if (batch.size() < WARM_UP_BATCH_SIZE) {
+                break;
+            }
+            batch = articleRepository.findTop500ByArticleIdLessThanOrderByArticleIdDesc(
+                    batch.get(batch.size() - 1).getArticleId());
+        }
+        log.info("Article index warmed up. documents={}", size());
+    }
+
+    public void index(Collection<Article> articles) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // 토큰화는 락 밖에서 처리
+        List<Document> prepared = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            if (article.isSummarized()) {
+                Map<String, Integer> terms = new HashMap<>();
+                tokenize(article.getTitle(), terms);
+                tokenize(article.getContentSummarized(), terms);
+                int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+                prepared.add(new Document(article.getUrlHash(), article.getPublishedDate(), terms, length));
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Document document : prepared) {
+                remove(document.urlHash());
+                documents.put(document.urlHash(), document);
+                totalLength += document.length();
+                document.terms().forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.urlHash(), frequency));
+            }
+            Iterator<Document> oldest = documents.values().iterator();
+            while (documents.size() > properties.getMaxDocuments() && oldest.hasNext()) {
+                Document evicted = oldest.next();
+                oldest.remove();
+                removePostings(evicted);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인만으로 충분히 답할 수 있으면 점수 순 URL 해시 목록을 반환, 아니면 빈 목록
+    public List<String> search(String query) {
+        if (!properties.isEnabled()) {
+            return List.of();
+        }
+        return searchTimer.record(() -> {
+            List<String> result = rank(query);
+            (result.isEmpty() ? misses : hits).increment();
+            return result;
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> rank(String query) {
+        Map<String, Integer> queryTerms = new HashMap<>();
+        tokenize(query, queryTerms);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        LocalDate since = LocalDate.now().minusDays(properties.getMaxAge().toDays());
+
+        Map<String, Double> scores = new HashMap<>();
+        Map<String, Integer> matchedTerms = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : queryTerms.keySet()) {
+                Map<String, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((urlHash, frequency) -> {
+                    Document document = documents.get(urlHash);
+                    if (document.publishedDate() != null && document.publishedDate().isBefore(since)) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    scores.merge(urlHash, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    matchedTerms.merge(urlHash, 1, Integer::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int requiredTerms = (int) Math.ceil(queryTerms.size() * properties.getMinTermCoverage());
+        List<Map.Entry<String, Double>> candidates = scores.entrySet().stream()
+                .filter(entry -> matchedTerms.get(entry.getKey()) >= requiredTerms)
+                .toList();
+        if (candidates.size() < properties.getMinResults()) {
+            return List.of();
+        }
+        return candidates.stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(properties.getMaxResults())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void remove(String urlHash) {
+        Document removed = documents.remove(urlHash);
+        if (removed != null) {
+            removePostings(removed);
+        }
+    }
+
+    private void removePostings(Document removed) {
+        totalLength -= removed.length();
+        removed.terms().keySet().forEach(term -> {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(removed.urlHash());
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    // 구분 기호로 나눈 단어마다 글자 bigram을 만들고, 한 글자 단어는 그대로 사용
+    static void tokenize(String text, Map<String, Integer> terms) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String word : SEPARATOR.split(normalized)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.merge(word, 1, Integer::sum);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.merge(new String(codePoints, i, 2), 1, Integer::sum);
+            }
+        }
+    }
+
+    private record Document(String urlHash, LocalDate publishedDate, Map<String, Integer> terms, int length) {
+    }
+}
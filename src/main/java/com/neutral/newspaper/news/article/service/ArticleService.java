@@ -0,0 +1,141 @@
+package com.neutral.newspaper.news.article.service;
+
+import com.neutral.newspaper.news.article.ArticleRepository;
+import com.neutral.newspaper.news.article.domain.Article;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleService {
+
+    // 같은 URL을 동시에 저장해서 유니크 제약에 걸렸을 때 다시 시도하는 최대 횟수
+    private static final int MAX_MERGE_ATTEMPTS = 3;
+    private static final char LIKE_ESCAPE = '!';
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 요약 서버에서 받은 기사를 저장(upsert)하고, 요약이 빠진 기사는 저장된 요약으로 채워서 반환
+    // URL 해시 목록으로 한 번에 조회하고 새 기사만 모아서 저장
+    // 다른 요청이 같은 기사를 먼저 저장해 유니크 제약에 걸리면 새 트랜잭션에서 다시 조회해 기존 기사로 갱신
+    // topic은 기사가 검색된 정규화 토픽, 없으면 null
+    public List<NewsSummaryDto> mergeSummaries(String topic, List<NewsSummaryDto> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<String, NewsSummaryDto> byHash = new LinkedHashMap<>();
+        for (NewsSummaryDto summary : summaries) {
+            if (summary.getUrl() != null) {
+                byHash.putIfAbsent(Article.hashUrl(summary.getUrl()), summary);
+            }
+        }
+
+        Merged merged = storeWithRetry(topic, byHash);
+        // 트랜잭션 템플릿이 커밋한 뒤에 색인, 롤백된 기사는 색인에 남지 않음
+        articleSearchIndex.index(merged.indexed());
+        Map<String, Article> stored = merged.stored();
+
+        // 요약 서버가 요약을 생략한 기사는 이전에 저장된 요약을 재사용
+        return summaries.stream()
+                .map(summary -> {
+                    if (summary.getUrl() == null || summary.getContentSummarized() != null) {
+                        return summary;
+                    }
+                    Article article = stored.get(Article.hashUrl(summary.getUrl()));
+                    return article != null && article.isSummarized() ? article.toNewsSummary() : summary;
+                })
+                .toList();
+    }
+
+    private Merged storeWithRetry(String topic, Map<String, NewsSummaryDto> byHash) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> store(topic, byHash));
+            } catch (DataIntegrityViolationException e) {
+                // 롤백된 트랜잭션의 기사는 버리고, 먼저 저장된 기사가 보이는 새 트랜잭션에서 처음부터 다시 반영
+                if (attempt >= MAX_MERGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Merged store(String topic, Map<String, NewsSummaryDto> byHash) {
+        Map<String, Article> stored = articleRepository.findByUrlHashIn(byHash.keySet()).stream()
+                .collect(Collectors.toMap(Article::getUrlHash, Function.identity()));
+
+        List<Article> created = new ArrayList<>();
+        byHash.forEach((hash, summary) -> {
+            Article article = stored.get(hash);
+            if (article == null) {
+                article = Article.from(summary);
+                created.add(article);
+            } else {
+                article.update(summary);
+            }
+            article.addTopic(topic);
+        });
+        articleRepository.saveAll(created);
+
+        List<Article> indexed = new ArrayList<>(created);
+        indexed.addAll(stored.values());
+        return new Merged(stored, indexed);
+    }
+
+    // 노드 내부 색인으로 충분히 답할 수 있으면 저장된 기사를 점수 순으로 반환
+    @Transactional(readOnly = true)
+    public Optional<List<NewsSummaryDto>> searchIndexed(String topic) {
+        List<String> urlHashes = articleSearchIndex.search(topic);
+        if (urlHashes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Article> articles = articleRepository.findByUrlHashIn(urlHashes).stream()
+                .collect(Collectors.toMap(Article::getUrlHash, Function.identity()));
+        return Optional.of(urlHashes.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(Article::toNewsSummary)
+                .toList());
+    }
+
+    // 요약 서버를 호출하지 않고 저장된 기사에서 토픽을 검색
+    @Transactional(readOnly = true)
+    public List<NewsSummaryDto> findHistory(String topic, int size) {
+        return articleRepository.searchByTopic(escapeLike(topic), PageRequest.of(0, size)).stream()
+                .map(Article::toNewsSummary)
+                .toList();
+    }
+
+    // stored: 이미 저장돼 있던 기사(URL 해시별), indexed: 이번에 저장하거나 갱신한 기사
+    private record Merged(Map<String, Article> stored, List<Article> indexed) {
+    }
+
+    // 사용자가 입력한 %, _ 를 LIKE 와일드카드가 아닌 문자 그대로 검색
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.neutral.newspaper.news.backend;
+
+// 호출 한 번마다 ratio만큼 헤지 토큰을 적립하고, 헤지 요청은 토큰 하나를 사용
+// 백엔드가 전체적으로 느려져도 추가 요청이 전체 호출의 ratio 비율을 넘지 않음
+class HedgeBudget {
+
+    private final double ratio;
+    private final double burst;
+
+    private double tokens;
+
+    HedgeBudget(double ratio, int burst) {
+        this.ratio = Math.max(ratio, 0);
+        this.burst = Math.max(burst, 1);
+    }
+
+    synchronized void onCall() {
+        tokens = Math.min(tokens + ratio, burst);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
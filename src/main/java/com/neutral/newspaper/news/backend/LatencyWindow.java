@@ -0,0 +1,49 @@
+package com.neutral.newspaper.news.backend;
+
+import java.util.Arrays;
+
+// 백엔드별 최근 응답 시간을 고정 크기 링 버퍼에 모아 백분위를 계산
+// 백분위는 호출마다 정렬하지 않고, 표본이 일정 수 쌓일 때마다 다시 계산해 둔 값을 사용
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int refreshInterval;
+
+    private int next;
+    private int size;
+    private int sinceRefresh;
+    private long[] sorted = new long[0];
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[Math.max(capacity, 1)];
+        this.refreshInterval = Math.max(this.samples.length / 16, 1);
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+        sinceRefresh++;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // 표본이 없으면 -1
+    synchronized long percentile(double quantile) {
+        if (size == 0) {
+            return -1;
+        }
+        // 표본이 적을 때는 새 표본이 들어올 때마다 다시 계산
+        if (sinceRefresh > 0 && (sinceRefresh >= refreshInterval || sorted.length < refreshInterval)) {
+            sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            sinceRefresh = 0;
+        }
+        int index = (int) Math.ceil(Math.min(Math.max(quantile, 0), 1) * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
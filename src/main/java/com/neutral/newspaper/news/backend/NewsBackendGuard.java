@@ -0,0 +1,365 @@
+package com.neutral.newspaper.news.backend;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 요약 서버(localhost:5000) 호출을 서킷 브레이커로 감싸서, 서버가 불안정할 때는 기다리지 않고 바로 실패시킴
+// 백엔드별 최근 응답 시간 백분위로 타임아웃을 정하고, 헤지 대상 백엔드는 느린 첫 요청을 기다리는 대신 같은 요청을 한 번 더 보냄
+@Slf4j
+@Component
+public class NewsBackendGuard {
+
+    public static final String MAP_BACKEND = "map-backend";
+    public static final String KEYWORD_BACKEND = "keyword-backend";
+
+    private static final String LATENCY_METRIC = "news.backend.latency";
+    private static final String TIMEOUT_METRIC = "news.backend.timeout";
+    private static final String HEDGE_METRIC = "news.backend.hedges";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final NewsBackendProperties properties;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, BackendState> states = new ConcurrentHashMap<>();
+
+    // 헤지 시점과 타임아웃을 알리는 타이머, 작업은 future 완료와 인터럽트뿐이라 스레드 하나로 충분
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "news-backend-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NewsBackendGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                            NewsBackendProperties properties,
+                            AsyncTaskExecutor applicationTaskExecutor,
+                            MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.properties = properties;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 같은 요청을 두 번 보내도 되는 조회성 호출, 적응형 타임아웃과 헤지를 적용
+    public <T> T call(String backend, Supplier<T> supplier) {
+        BackendState state = states.computeIfAbsent(backend, BackendState::new);
+        return guard(backend, () -> callWithDeadline(state, supplier));
+    }
+
+    // 응답을 받는 도중에 기사를 저장하는 스트리밍처럼 한 번만 실행해야 하는 호출, 서킷 브레이커만 적용
+    public <T> T callOnce(String backend, Supplier<T> supplier) {
+        return guard(backend, supplier);
+    }
+
+    // WebClient 호출용, 같은 서킷 브레이커와 적응형 타임아웃을 적용 (헤지는 하지 않음)
+    public <T> Mono<T> callReactive(String backend, Mono<T> source) {
+        BackendState state = states.computeIfAbsent(backend, BackendState::new);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            long timeoutNanos = state.timeoutNanos();
+            return source.timeout(Duration.ofNanos(timeoutNanos))
+                    .doOnSuccess(value -> state.record(System.nanoTime() - start))
+                    .doOnError(TimeoutException.class, e -> state.record(timeoutNanos));
+        })
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(backend)))
+                .onErrorMap(e -> degrade(backend, e));
+    }
+
+    // 기사 단위로 받는 WebClient 스트림, 첫 기사가 올 때까지만 타임아웃을 적용
+    public <T> Flux<T> streamReactive(String backend, Flux<T> source) {
+        BackendState state = states.computeIfAbsent(backend, BackendState::new);
+        return Flux.defer(() -> source.timeout(Mono.delay(Duration.ofNanos(state.timeoutNanos())), item -> Mono.never()))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(backend)))
+                .onErrorMap(e -> degrade(backend, e));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    // 현재 적용 중인 타임아웃
+    Duration currentTimeout(String backend) {
+        return Duration.ofNanos(states.computeIfAbsent(backend, BackendState::new).timeoutNanos());
+    }
+
+    private <T> T guard(String backend, Supplier<T> supplier) {
+        try {
+            return circuitBreakerRegistry.circuitBreaker(backend).executeSupplier(supplier);
+        } catch (CallNotPermittedException e) {
+            log.warn("News backend circuit is open. backend={}", backend);
+            throw new CustomException(ErrorType.NEWS_BACKEND_DEGRADED);
+        } catch (HttpClientErrorException e) {
+            // 4xx는 요청 자체의 문제이므로 장애로 보지 않고, 마지막 정상 응답으로 대체하지도 않음
+            log.info("News backend rejected the request. backend={}, status={}", backend, e.getStatusCode());
+            throw new CustomException(ErrorType.NEWS_BACKEND_REJECTED);
+        } catch (RestClientException e) {
+            log.warn("News backend call failed. backend={}", backend, e);
+            throw new CustomException(ErrorType.NEWS_BACKEND_DEGRADED);
+        }
+    }
+
+    // 서킷이 열렸거나 5xx, I/O 오류, 타임아웃이면 NEWS_BACKEND_DEGRADED, 4xx는 NEWS_BACKEND_REJECTED
+    private Throwable degrade(String backend, Throwable e) {
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            log.info("News backend rejected the request. backend={}, status={}", backend, response.getStatusCode());
+            return new CustomException(ErrorType.NEWS_BACKEND_REJECTED);
+        }
+        if (e instanceof CallNotPermittedException) {
+            log.warn("News backend circuit is open. backend={}", backend);
+            return new CustomException(ErrorType.NEWS_BACKEND_DEGRADED);
+        }
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException
+                || e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()) {
+            log.warn("News backend call failed. backend={}", backend, e);
+            return new CustomException(ErrorType.NEWS_BACKEND_DEGRADED);
+        }
+        return e;
+    }
+
+    // 첫 요청은 호출한 스레드에서 바로 실행하고, 헤지 요청만 applicationTaskExecutor에서 실행
+    // 헤지 시점과 타임아웃은 공용 타이머로 처리해서 헤지하지 않는 호출은 다른 스레드를 쓰지 않음
+    private <T> T callWithDeadline(BackendState state, Supplier<T> supplier) {
+        long timeoutNanos = state.timeoutNanos();
+        long deadline = System.nanoTime() + timeoutNanos;
+        state.budget.onCall();
+
+        Attempts<T> attempts = new Attempts<>(state, supplier, timeoutNanos);
+        List<ScheduledFuture<?>> timers = new ArrayList<>(2);
+        try {
+            long hedgeDelayNanos = state.hedgeDelayNanos();
+            if (hedgeDelayNanos > 0 && hedgeDelayNanos < timeoutNanos) {
+                timers.add(timer.schedule(attempts::hedge, hedgeDelayNanos, TimeUnit.NANOSECONDS));
+            }
+            timers.add(timer.schedule(attempts::expire, timeoutNanos, TimeUnit.NANOSECONDS));
+
+            attempts.runPrimary();
+
+            // 첫 요청이 실패했지만 헤지 요청이 남아 있으면 기다림
+            return attempts.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw attempts.timeout();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ResourceAccessException("News backend call failed. backend=" + state.backend);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for news backend. backend=" + state.backend);
+        } finally {
+            timers.forEach(scheduled -> scheduled.cancel(false));
+            // 진 쪽 헤지 요청은 스레드를 인터럽트해서 소켓 대기를 끊음
+            attempts.cancelHedges();
+        }
+    }
+
+    // 첫 요청과 헤지 요청 중 먼저 성공한 응답을 result로 넘김, 모두 실패하면 마지막 예외로 실패
+    private final class Attempts<T> {
+
+        private final BackendState state;
+        private final Supplier<T> supplier;
+        private final long timeoutNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Future<?>> hedges = new CopyOnWriteArrayList<>();
+        // 첫 요청을 포함해서 실행한 요청 수
+        private final AtomicInteger launched = new AtomicInteger(1);
+        private final AtomicInteger failed = new AtomicInteger();
+
+        // 첫 요청을 실행 중인 호출 스레드, 헤지가 이기거나 타임아웃이 나면 인터럽트
+        // 가상 스레드에서는 인터럽트로 소켓 대기가 바로 끊기고, 플랫폼 스레드에서는 HTTP 클라이언트의 read timeout까지 기다림
+        private final Object primaryLock = new Object();
+        private Thread primaryThread;
+        private boolean primaryInterrupted;
+
+        private Attempts(BackendState state, Supplier<T> supplier, long timeoutNanos) {
+            this.state = state;
+            this.supplier = supplier;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        private void runPrimary() {
+            synchronized (primaryLock) {
+                primaryThread = Thread.currentThread();
+            }
+            try {
+                run(false);
+            } finally {
+                synchronized (primaryLock) {
+                    primaryThread = null;
+                    // 이 호출이 보낸 인터럽트만 지워서 호출한 쪽에 남지 않도록 함
+                    if (primaryInterrupted) {
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        // 타이머 스레드에서 헤지 시점에 실행
+        private void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            if (!state.budget.tryAcquire()) {
+                state.hedgeCounter("budget_exhausted").increment();
+                return;
+            }
+            launched.incrementAndGet();
+            try {
+                hedges.add(applicationTaskExecutor.submit(() -> run(true)));
+            } catch (RejectedExecutionException e) {
+                launched.decrementAndGet();
+                log.warn("Failed to launch hedged news backend call. backend={}", state.backend, e);
+            }
+        }
+
+        // 타이머 스레드에서 타임아웃 시점에 실행
+        private void expire() {
+            if (result.completeExceptionally(timeout())) {
+                interruptPrimary();
+                cancelHedges();
+            }
+        }
+
+        private void run(boolean hedge) {
+            long start = System.nanoTime();
+            try {
+                T value = supplier.get();
+                if (result.complete(value)) {
+                    state.record(System.nanoTime() - start);
+                    if (launched.get() > 1) {
+                        state.hedgeCounter(hedge ? "hedge_won" : "primary_won").increment();
+                    }
+                    if (hedge) {
+                        interruptPrimary();
+                    }
+                    return;
+                }
+            } catch (RuntimeException e) {
+                if (!result.isDone()) {
+                    if (failed.incrementAndGet() >= launched.get()) {
+                        if (launched.get() > 1) {
+                            state.hedgeCounter("failed").increment();
+                        }
+                        result.completeExceptionally(e);
+                    }
+                    return;
+                }
+            }
+            // 다른 요청이 이겼거나 타임아웃으로 끝난 요청도 적어도 여기까지는 걸렸으므로 타임아웃을 상한으로 기록
+            // 이긴 요청만 기록하면 느린 응답이 표본에서 빠져서 백분위가 실제보다 낮아짐
+            state.record(Math.min(System.nanoTime() - start, timeoutNanos));
+        }
+
+        private void interruptPrimary() {
+            synchronized (primaryLock) {
+                if (primaryThread != null) {
+                    primaryInterrupted = true;
+                    primaryThread.interrupt();
+                }
+            }
+        }
+
+        private void cancelHedges() {
+            hedges.forEach(future -> future.cancel(true));
+        }
+
+        private ResourceAccessException timeout() {
+            return new ResourceAccessException("News backend did not respond within "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms. backend=" + state.backend);
+        }
+    }
+
+    private final class BackendState {
+
+        private final String backend;
+        private final boolean hedging;
+        private final LatencyWindow window;
+        private final HedgeBudget budget;
+        private final Timer latency;
+
+        private BackendState(String backend) {
+            NewsBackendProperties.Latency latencyProperties = properties.getLatency();
+            NewsBackendProperties.Hedging hedgingProperties = properties.getHedging();
+
+            this.backend = backend;
+            this.hedging = hedgingProperties.getBackends().contains(backend);
+            this.window = new LatencyWindow(latencyProperties.getWindowSize());
+            this.budget = new HedgeBudget(hedgingProperties.getBudgetRatio(), hedgingProperties.getBudgetBurst());
+            this.latency = Timer.builder(LATENCY_METRIC)
+                    .tag("backend", backend)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            Gauge.builder(TIMEOUT_METRIC, this, state -> state.timeoutNanos() / 1_000_000_000.0)
+                    .tag("backend", backend)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        private void record(long nanos) {
+            window.record(nanos);
+            latency.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 표본이 충분하면 pN x 배수를 하한과 상한 사이로 맞춤, 부족하면 상한을 그대로 사용
+        private long timeoutNanos() {
+            NewsBackendProperties.Latency latencyProperties = properties.getLatency();
+            long max = latencyProperties.getMaxTimeout().toNanos();
+            if (window.size() < latencyProperties.getMinSamples()) {
+                return max;
+            }
+            long percentile = window.percentile(latencyProperties.getTimeoutPercentile());
+            long timeout = (long) (percentile * latencyProperties.getTimeoutMultiplier());
+            return Math.min(Math.max(timeout, latencyProperties.getMinTimeout().toNanos()), max);
+        }
+
+        // 헤지 대상이 아니거나 표본이 부족하면 0
+        private long hedgeDelayNanos() {
+            if (!hedging || window.size() < properties.getLatency().getMinSamples()) {
+                return 0;
+            }
+            NewsBackendProperties.Hedging hedgingProperties = properties.getHedging();
+            long percentile = window.percentile(hedgingProperties.getDelayPercentile());
+            return Math.max(percentile, hedgingProperties.getMinDelay().toNanos());
+        }
+
+        private Counter hedgeCounter(String result) {
+            return meterRegistry.counter(HEDGE_METRIC, "backend", backend, "result", result);
+        }
+    }
+}
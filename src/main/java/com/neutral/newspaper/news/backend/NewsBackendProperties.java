@@ -0,0 +1,82 @@
+package com.neutral.newspaper.news.backend;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.backend")
+public class NewsBackendProperties {
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Latency latency = new Latency();
+
+    private Hedging hedging = new Hedging();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 실패율(%)이 이 값 이상이면 차단
+        private float failureRateThreshold = 50;
+
+        // 느린 호출 비율(%)이 이 값 이상이면 차단
+        private float slowCallRateThreshold = 80;
+
+        // 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+
+        // 실패율을 계산할 최근 호출 수
+        private int slidingWindowSize = 50;
+
+        // 실패율을 계산하기 위한 최소 호출 수
+        private int minimumNumberOfCalls = 10;
+
+        // 차단 후 다시 시험 호출을 허용하기까지의 시간
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        // 반개방 상태에서 허용하는 시험 호출 수
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Latency {
+        // 백분위 계산에 사용할 최근 응답 시간 개수
+        private int windowSize = 512;
+
+        // 이보다 표본이 적으면 최대 타임아웃을 그대로 사용
+        private int minSamples = 30;
+
+        // 타임아웃 기준 백분위와 배수 (p99 x 2)
+        private double timeoutPercentile = 0.99;
+        private double timeoutMultiplier = 2.0;
+
+        // 적응형 타임아웃의 하한과 상한 (상한은 HTTP read timeout과 맞춤)
+        private Duration minTimeout = Duration.ofSeconds(3);
+        private Duration maxTimeout = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+        // 헤지 요청을 보낼 백엔드 목록, 비어 있으면 헤지하지 않음
+        private List<String> backends = new ArrayList<>();
+
+        // 첫 요청이 이 백분위 응답 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보냄
+        private double delayPercentile = 0.95;
+
+        // 헤지 지연의 하한, 너무 이른 헤지로 부하가 두 배가 되는 것을 막음
+        private Duration minDelay = Duration.ofMillis(300);
+
+        // 전체 호출 대비 헤지 요청 비율 상한
+        private double budgetRatio = 0.1;
+
+        // 한 번에 몰아서 쓸 수 있는 헤지 요청 수
+        private int budgetBurst = 5;
+    }
+}
@@ -0,0 +1,18 @@
+package com.neutral.newspaper.news.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Redis에 저장되는 캐시 항목, 저장 시각을 함께 기록해서 신선도를 판단
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsCacheEntry {
+    private long cachedAt;
+    private JsonNode payload;
+
+    // payload 내용으로 계산한 HTTP ETag, 내용이 같으면 다시 저장해도 값이 같음
+    private String etag;
+}
@@ -0,0 +1,20 @@
+package com.neutral.newspaper.news.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+// 다른 노드가 캐시를 갱신하거나 삭제하면 이 노드의 L1 항목을 지움
+@Component
+@RequiredArgsConstructor
+public class NewsCacheInvalidationListener implements MessageListener {
+
+    private final NewsCacheService newsCacheService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        newsCacheService.handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.neutral.newspaper.news.cache;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public final class NewsCacheKey {
+
+    private static final String PREFIX = "news:";
+
+    private NewsCacheKey() {
+    }
+
+    // "news:{namespace}:{part1}:{part2}..." 형식의 키 생성, 각 부분은 정규화해서 같은 요청이 같은 키를 갖도록 함
+    public static String of(String namespace, String... parts) {
+        return PREFIX + namespace + ":" + Arrays.stream(parts)
+                .map(NewsCacheKey::normalize)
+                .collect(Collectors.joining(":"));
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
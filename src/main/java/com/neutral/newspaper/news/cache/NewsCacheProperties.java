@@ -0,0 +1,68 @@
+package com.neutral.newspaper.news.cache;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.cache")
+public class NewsCacheProperties {
+
+    // 노드 내부(L1) 캐시 설정
+    private L1 l1 = new L1();
+
+    // 지역/카테고리 뉴스 캐시 정책
+    private Policy map = new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30));
+
+    // 토픽별 키워드 요약 결과 캐시 정책, 필터와 페이지 조건은 캐시된 결과에 적용
+    // GET /keyword 응답의 Cache-Control도 이 정책과 캐시 항목의 저장 시각으로 만듦
+    private Policy keyword = new Policy(Duration.ofSeconds(60), Duration.ofMinutes(5));
+
+    // 회원별 관심사 피드 캐시 정책
+    private Policy feed = new Policy(Duration.ofMinutes(2), Duration.ofMinutes(5));
+
+    // 요약 서버 장애 시 대신 반환할 마지막 정상 응답의 보관 기간
+    private Duration lastKnownGoodTtl = Duration.ofDays(1);
+
+    // 키워드 요약 요청을 노드 간에 하나로 합치기 위한 lease 설정
+    private Lease keywordLease = new Lease(Duration.ofSeconds(60), Duration.ofSeconds(30), Duration.ofMillis(200));
+
+    @Getter
+    @Setter
+    public static class L1 {
+        // L1 캐시가 사용할 수 있는 메모리 상한 (직렬화된 응답 크기 기준)
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        // 이 시간 동안은 캐시된 응답을 그대로 사용
+        private Duration ttl;
+
+        // ttl이 지난 뒤에도 이 시간 동안은 오래된 응답을 바로 반환하고 백그라운드에서 갱신
+        private Duration staleWhileRevalidate;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lease {
+        // lease 유지 시간, 대표 노드가 이 시간 안에 결과를 올리지 못하면 다른 노드가 직접 실행
+        private Duration leaseTime;
+
+        // 대표 노드가 올린 결과를 다른 노드가 가져갈 수 있도록 보관하는 시간
+        private Duration resultTtl;
+
+        // 결과를 기다리는 노드의 확인 주기
+        private Duration pollInterval;
+    }
+}
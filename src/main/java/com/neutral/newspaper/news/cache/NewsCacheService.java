@@ -0,0 +1,368 @@
+package com.neutral.newspaper.news.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Policy;
+import com.neutral.newspaper.news.cache.NewsLocalCache.LocalEntry;
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// L1(노드 내부 Caffeine) + L2(Redis) 2단계 뉴스 응답 캐시
+// L1에서 반환되는 객체는 여러 요청이 공유하므로 호출자가 수정하면 안 됨
+@Slf4j
+@Service
+public class NewsCacheService {
+
+    public static final String INVALIDATION_CHANNEL = "news:cache:invalidate";
+
+    private static final String REFRESH_LOCK_SUFFIX = ":refreshing";
+    private static final String LAST_KNOWN_GOOD_SUFFIX = ":last-good";
+    private static final String INVALIDATION_DELIMITER = "|";
+    private static final long REFRESH_LOCK_SECONDS = 30;
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final NewsCacheProperties newsCacheProperties;
+    private final NewsLocalCache newsLocalCache;
+
+    // 자신이 보낸 무효화 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 이 노드에서 갱신 중인 키, 같은 키에 대해 백그라운드 갱신이 중복 실행되지 않도록 함
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public NewsCacheService(RedisService redisService,
+                            ObjectMapper objectMapper,
+                            AsyncTaskExecutor applicationTaskExecutor,
+                            NewsCacheProperties newsCacheProperties,
+                            NewsLocalCache newsLocalCache,
+                            MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.newsCacheProperties = newsCacheProperties;
+        this.newsLocalCache = newsLocalCache;
+        this.l1Hits = meterRegistry.counter("news.cache.gets", "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("news.cache.gets", "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("news.cache.gets", "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("news.cache.gets", "tier", "l2", "result", "miss");
+    }
+
+    public <T> T getOrLoad(String key, Class<T> type, Policy policy, Supplier<T> loader) {
+        return getOrLoadCached(key, type, policy, loader).value();
+    }
+
+    // getOrLoad와 같지만 HTTP 캐시 헤더를 만들 수 있도록 저장 시각과 ETag를 함께 반환
+    public <T> Cached<T> getOrLoadCached(String key, Class<T> type, Policy policy, Supplier<T> loader) {
+        LocalEntry entry = lookup(key, type, policy);
+
+        // 캐시에 없거나 stale 구간까지 지난 경우에는 직접 조회
+        if (entry == null) {
+            T value;
+            try {
+                value = loader.get();
+            } catch (RuntimeException e) {
+                return new Cached<>(lastKnownGoodOrThrow(key, type, e), System.currentTimeMillis(), null, policy);
+            }
+            LocalEntry written = write(key, value, policy);
+            return new Cached<>(value, System.currentTimeMillis(), written == null ? null : written.etag(), policy);
+        }
+
+        // ttl이 지났다면 오래된 응답을 바로 반환하고 백그라운드에서 한 번만 갱신
+        long age = System.currentTimeMillis() - entry.cachedAt();
+        if (age >= policy.getTtl().toMillis()) {
+            refreshInBackground(key, policy, loader);
+        }
+
+        return new Cached<>(type.cast(entry.value()), entry.cachedAt(), entry.etag(), policy);
+    }
+
+    // getOrLoad의 WebClient 버전, 캐시 조회와 저장은 Redis를 거치므로 boundedElastic에서 실행
+    // stale 항목의 백그라운드 갱신은 applicationTaskExecutor에서 loader를 구독해서 처리
+    public <T> Mono<T> getOrLoadReactive(String key, Class<T> type, Policy policy, Mono<T> loader) {
+        return Mono.fromCallable(() -> Optional.ofNullable(lookup(key, type, policy)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entry -> {
+                    if (entry.isEmpty()) {
+                        return loader.publishOn(Schedulers.boundedElastic())
+                                .doOnNext(value -> write(key, value, policy))
+                                .onErrorResume(RuntimeException.class, e -> lastKnownGood(key, type, e));
+                    }
+                    LocalEntry cached = entry.get();
+                    if (System.currentTimeMillis() - cached.cachedAt() >= policy.getTtl().toMillis()) {
+                        refreshInBackground(key, policy, loader::block);
+                    }
+                    return Mono.just(type.cast(cached.value()));
+                });
+    }
+
+    // 캐시 항목이 ttl 안에 머물러 있는 남은 시간(ms), 항목이 없으면 음수
+    public long remainingFreshMillis(String key, Policy policy) {
+        try {
+            long expireMillis = redisService.getExpireMillis(key);
+            if (expireMillis < 0) {
+                return -1;
+            }
+            return expireMillis - policy.getStaleWhileRevalidate().toMillis();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read news cache expiry. key={}", key, e);
+            return -1;
+        }
+    }
+
+    // 요청과 무관하게 바로 조회해서 캐시를 새로 채움 (캐시 워머용)
+    public <T> void refresh(String key, Policy policy, Supplier<T> loader) {
+        write(key, loader.get(), policy);
+    }
+
+    // L1과 L2, 그리고 다른 노드의 L1에서 모두 삭제
+    public void evict(String key) {
+        newsLocalCache.invalidate(key);
+        try {
+            redisService.deleteData(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict news cache. key={}", key, e);
+        }
+        publishInvalidation(key);
+    }
+
+    // 다른 노드에서 온 무효화 메시지 처리
+    public void handleInvalidation(String message) {
+        int delimiter = message.indexOf(INVALIDATION_DELIMITER);
+        if (delimiter < 0) {
+            return;
+        }
+        String origin = message.substring(0, delimiter);
+        if (!nodeId.equals(origin)) {
+            newsLocalCache.invalidate(message.substring(delimiter + 1));
+        }
+    }
+
+    // 캐시 없이 매번 조회하되, 조회에 실패하면 마지막으로 성공한 응답을 대신 반환
+    public <T> T loadWithFallback(String key, Class<T> type, Supplier<T> loader) {
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            return lastKnownGoodOrThrow(key, type, e);
+        }
+        saveLastKnownGood(key, value);
+        return value;
+    }
+
+    // loadWithFallback의 WebClient 버전
+    public <T> Mono<T> loadWithFallback(String key, Class<T> type, Mono<T> loader) {
+        return loader.publishOn(Schedulers.boundedElastic())
+                .doOnNext(value -> saveLastKnownGood(key, value))
+                .onErrorResume(RuntimeException.class, e -> lastKnownGood(key, type, e));
+    }
+
+    private <T> Mono<T> lastKnownGood(String key, Class<T> type, RuntimeException failure) {
+        return Mono.fromCallable(() -> lastKnownGoodOrThrow(key, type, failure))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private <T> T lastKnownGoodOrThrow(String key, Class<T> type, RuntimeException failure) {
+        // 요약 서버가 4xx로 거절한 요청은 다른 응답으로 대체하지 않음
+        if (failure instanceof CustomException custom && custom.getErrorType().getHttpStatus().is4xxClientError()) {
+            throw failure;
+        }
+        try {
+            String json = redisService.getData(key + LAST_KNOWN_GOOD_SUFFIX);
+            if (json != null) {
+                log.warn("Serving last known good response. key={}, cause={}", key, failure.getMessage());
+                return objectMapper.readValue(json, type);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read last known good response. key={}", key, e);
+        }
+        throw failure;
+    }
+
+    private void saveLastKnownGood(String key, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            redisService.saveData(key + LAST_KNOWN_GOOD_SUFFIX, objectMapper.writeValueAsString(value),
+                    newsCacheProperties.getLastKnownGoodTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write last known good response. key={}", key, e);
+        }
+    }
+
+    private <T> void refreshInBackground(String key, Policy policy, Supplier<T> loader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+
+        // 다른 노드가 이미 갱신 중이라면 건너뜀
+        if (!acquireRefreshLock(key)) {
+            refreshingKeys.remove(key);
+            return;
+        }
+
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    write(key, loader.get(), policy);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh news cache. key={}", key, e);
+                } finally {
+                    releaseRefreshLock(key);
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to schedule news cache refresh. key={}", key, e);
+            releaseRefreshLock(key);
+            refreshingKeys.remove(key);
+        }
+    }
+
+    // L1 -> L2 순서로 조회하고, L2에서 찾은 항목은 L1에 올림
+    private <T> LocalEntry lookup(String key, Class<T> type, Policy policy) {
+        LocalEntry local = newsLocalCache.get(key);
+        if (local != null && type.isInstance(local.value())) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+
+        try {
+            String json = redisService.getData(key);
+            if (json == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+
+            NewsCacheEntry entry = objectMapper.readValue(json, NewsCacheEntry.class);
+            String etag = entry.getEtag() != null ? entry.getEtag() : etag(entry.getPayload());
+            LocalEntry promoted = new LocalEntry(entry.getCachedAt(), expiresAt(entry.getCachedAt(), policy),
+                    objectMapper.convertValue(entry.getPayload(), type), etag, weigh(json));
+            newsLocalCache.put(key, promoted);
+            return promoted;
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 캐시 장애가 요청 실패로 이어지지 않도록 캐시를 건너뜀
+            log.warn("Failed to read news cache. key={}", key, e);
+            return null;
+        }
+    }
+
+    private LocalEntry write(String key, Object value, Policy policy) {
+        if (value == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        LocalEntry local = null;
+        try {
+            JsonNode payload = objectMapper.valueToTree(value);
+            String etag = etag(payload);
+            String json = objectMapper.writeValueAsString(new NewsCacheEntry(now, payload, etag));
+            local = new LocalEntry(now, expiresAt(now, policy), value, etag, weigh(json));
+            newsLocalCache.put(key, local);
+
+            long expireMillis = policy.getTtl().plus(policy.getStaleWhileRevalidate()).toMillis();
+            redisService.saveData(key, json, expireMillis, TimeUnit.MILLISECONDS);
+
+            // 다른 노드의 L1에 남아 있는 이전 응답 제거
+            publishInvalidation(key);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write news cache. key={}", key, e);
+        }
+        saveLastKnownGood(key, value);
+        return local;
+    }
+
+    // 응답 내용의 SHA-256 해시로 만든 strong ETag, 저장 시각과 무관하게 내용이 같으면 같은 값
+    private String etag(JsonNode payload) throws JsonProcessingException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(payload));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private void publishInvalidation(String key) {
+        try {
+            redisService.publish(INVALIDATION_CHANNEL, nodeId + INVALIDATION_DELIMITER + key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish news cache invalidation. key={}", key, e);
+        }
+    }
+
+    private long expiresAt(long cachedAt, Policy policy) {
+        return cachedAt + policy.getTtl().plus(policy.getStaleWhileRevalidate()).toMillis();
+    }
+
+    // JSON 문자 수를 UTF-16 기준 바이트 수로 환산한 대략적인 메모리 사용량
+    private int weigh(String json) {
+        return (int) Math.min(Integer.MAX_VALUE, json.length() * 2L);
+    }
+
+    private boolean acquireRefreshLock(String key) {
+        try {
+            return redisService.saveDataIfAbsent(key + REFRESH_LOCK_SUFFIX, "1", REFRESH_LOCK_SECONDS, TimeUnit.SECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire news cache refresh lock. key={}", key, e);
+            return false;
+        }
+    }
+
+    private void releaseRefreshLock(String key) {
+        try {
+            redisService.deleteData(key + REFRESH_LOCK_SUFFIX);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release news cache refresh lock. key={}", key, e);
+        }
+    }
+
+    // cachedAt: 응답이 만들어진 시각, etag: 캐시에 저장하지 못했거나 대체 응답이면 null
+    public record Cached<T>(T value, long cachedAt, String etag, Policy policy) {
+
+        // 남은 ttl 동안은 브라우저가 그대로 사용하고, 이후 stale 구간에는 재검증하면서 사용
+        // 사용자별 요청과 섞이지 않도록 공유 캐시에는 저장하지 않음
+        // 대체 응답은 저장하지 않고, ttl이 지난 응답은 매번 ETag로 재검증
+        public CacheControl cacheControl() {
+            if (etag == null) {
+                return CacheControl.noStore();
+            }
+            long age = Math.max(0, System.currentTimeMillis() - cachedAt);
+            long maxAge = policy.getTtl().toMillis() - age;
+            if (maxAge <= 0) {
+                return CacheControl.noCache().cachePrivate();
+            }
+            return CacheControl.maxAge(Duration.ofMillis(maxAge))
+                    .staleWhileRevalidate(policy.getStaleWhileRevalidate())
+                    .cachePrivate();
+        }
+    }
+}
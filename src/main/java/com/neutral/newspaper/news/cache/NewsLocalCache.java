@@ -0,0 +1,68 @@
+package com.neutral.newspaper.news.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+// 노드 내부(L1) 캐시, Redis(L2) 왕복과 JSON 역직렬화 없이 디코딩된 응답을 바로 반환
+// Caffeine의 W-TinyLFU 정책으로 자주 조회되는 항목만 메모리 상한 안에 남김
+@Component
+public class NewsLocalCache {
+
+    private final Cache<String, LocalEntry> cache;
+
+    public NewsLocalCache(NewsCacheProperties newsCacheProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(newsCacheProperties.getL1().getMaxSize().toBytes())
+                .weigher((String key, LocalEntry entry) -> entry.weight())
+                .expireAfter(new LocalEntryExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "news-l1");
+    }
+
+    public LocalEntry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, LocalEntry entry) {
+        cache.put(key, entry);
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    // weight는 직렬화된 JSON 길이를 기준으로 한 대략적인 바이트 수
+    public record LocalEntry(long cachedAt, long expiresAt, Object value, String etag, int weight) {
+    }
+
+    // 항목마다 L2와 같은 시점에 만료되도록 함
+    private static class LocalEntryExpiry implements Expiry<String, LocalEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+            return remainingNanos(entry);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalEntry entry, long currentTime, long currentDuration) {
+            return remainingNanos(entry);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(LocalEntry entry) {
+            long remainingMillis = Math.max(0, entry.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.neutral.newspaper.news.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 key에 대한 동시 호출을 하나로 합쳐서, 먼저 들어온 호출의 결과를 나머지 호출이 함께 사용
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        // 이미 진행 중인 호출이 있으면 그 결과를 기다림
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 대표 호출에서 발생한 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.neutral.newspaper.news.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Lease;
+import com.neutral.newspaper.redis.RedisService;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SingleFlightService {
+
+    private static final String LEASE_SUFFIX = ":lease";
+    private static final String RESULT_SUFFIX = ":result";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    // 같은 노드 안의 동시 요청은 여기서 합쳐지고, 대표 요청만 Redis lease 경쟁에 참여
+    private final SingleFlight<String, Object> localFlights = new SingleFlight<>();
+
+    public <T> T execute(String key, Class<T> type, Lease lease, Supplier<T> loader) {
+        return type.cast(localFlights.execute(key, () -> executeWithLease(key, type, lease, loader)));
+    }
+
+    // Redis lease를 얻은 노드만 loader를 실행하고, 나머지 노드는 결과가 올라올 때까지 기다림
+    private <T> T executeWithLease(String key, Class<T> type, Lease lease, Supplier<T> loader) {
+        String leaseKey = key + LEASE_SUFFIX;
+        String resultKey = key + RESULT_SUFFIX;
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + lease.getLeaseTime().toMillis();
+
+        boolean leased = false;
+        try {
+            while (!leased && System.currentTimeMillis() < deadline) {
+                T shared = readResult(resultKey, type);
+                if (shared != null) {
+                    return shared;
+                }
+
+                leased = redisService.saveDataIfAbsent(leaseKey, owner, lease.getLeaseTime().toMillis(), TimeUnit.MILLISECONDS);
+                if (!leased) {
+                    sleep(lease.getPollInterval().toMillis());
+                }
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 노드 간 조율 없이 직접 실행
+            log.warn("Failed to coordinate single flight through Redis. key={}", key, e);
+        }
+
+        // Redis 장애 또는 lease를 가진 노드가 제한 시간 안에 결과를 올리지 못한 경우
+        if (!leased) {
+            return loader.get();
+        }
+
+        // loader는 한 번만 실행, 이후 Redis 오류는 이미 받은 값을 반환하는 데 영향을 주지 않음
+        try {
+            T value = loader.get();
+            writeResult(resultKey, value, lease);
+            return value;
+        } finally {
+            releaseLease(leaseKey, owner);
+        }
+    }
+
+    private <T> T readResult(String resultKey, Class<T> type) {
+        String json = redisService.getData(resultKey);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read single flight result. key={}", resultKey, e);
+            return null;
+        }
+    }
+
+    private void writeResult(String resultKey, Object value, Lease lease) {
+        if (value == null) {
+            return;
+        }
+        try {
+            redisService.saveData(resultKey, objectMapper.writeValueAsString(value),
+                    lease.getResultTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to write single flight result. key={}", resultKey, e);
+        }
+    }
+
+    // 해제하지 못한 lease는 leaseTime이 지나면 만료됨
+    private void releaseLease(String leaseKey, String owner) {
+        try {
+            redisService.deleteDataIfMatches(leaseKey, owner);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release single flight lease. key={}", leaseKey, e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for single flight result", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.neutral.newspaper.news.feed;
+
+import com.neutral.newspaper.news.feed.domain.FeedResponseDto;
+import com.neutral.newspaper.news.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    // 로그인한 회원의 관심사 기사를 한 번에 조회
+    @GetMapping
+    public ResponseEntity<FeedResponseDto> getFeed(Authentication authentication) {
+        // authentication.getName()은 토큰의 subject인 email
+        return ResponseEntity.ok(feedService.getFeed(authentication.getName()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.neutral.newspaper.news.feed.domain;
+
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedResponseDto {
+    private List<String> interests;
+
+    // 관심사 기사를 URL 기준으로 합치고 최신순으로 정렬한 목록
+    private List<NewsSummaryDto> news;
+
+    // 조회에 실패한 관심사
+    private List<String> failed;
+}
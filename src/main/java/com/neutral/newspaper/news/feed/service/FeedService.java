@@ -0,0 +1,150 @@
+package com.neutral.newspaper.news.feed.service;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.interest.InterestRepository;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.feed.domain.FeedResponseDto;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.KeywordService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class FeedService {
+
+    private static final Comparator<NewsSummaryDto> LATEST_FIRST = Comparator
+            .comparing(NewsSummaryDto::getDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final KeywordService keywordService;
+    private final InterestRepository interestRepository;
+    private final NewsCacheService newsCacheService;
+    private final NewsCacheProperties newsCacheProperties;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    // 피드 하나가 동시에 실행할 수 있는 관심사 조회 수
+    private final int parallelism;
+
+    // 피드에 포함할 최대 관심사 수와 기사 수
+    private final int maxInterests;
+    private final int maxArticles;
+
+    public FeedService(KeywordService keywordService,
+                       InterestRepository interestRepository,
+                       NewsCacheService newsCacheService,
+                       NewsCacheProperties newsCacheProperties,
+                       AsyncTaskExecutor applicationTaskExecutor,
+                       @Value("${news.feed.parallelism:4}") int parallelism,
+                       @Value("${news.feed.max-interests:20}") int maxInterests,
+                       @Value("${news.feed.max-articles:100}") int maxArticles) {
+        this.keywordService = keywordService;
+        this.interestRepository = interestRepository;
+        this.newsCacheService = newsCacheService;
+        this.newsCacheProperties = newsCacheProperties;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.parallelism = parallelism;
+        this.maxInterests = maxInterests;
+        this.maxArticles = maxArticles;
+    }
+
+    // 회원별로 조립한 피드를 짧게 캐시해서 새로고침 한 번에 요청 한 번만 처리
+    public FeedResponseDto getFeed(String email) {
+        return newsCacheService.getOrLoad(NewsCacheKey.of("feed", email), FeedResponseDto.class,
+                newsCacheProperties.getFeed(), () -> buildFeed(email));
+    }
+
+    private FeedResponseDto buildFeed(String email) {
+        List<String> interests = interestRepository.findNamesByMemberEmail(email).stream()
+                .distinct()
+                .limit(maxInterests)
+                .toList();
+        if (interests.isEmpty()) {
+            return new FeedResponseDto(List.of(), List.of(), List.of());
+        }
+
+        // 관심사별 키워드 요약을 동시에 조회하되, 동시에 실행되는 조회 수는 parallelism으로 제한
+        Semaphore permits = new Semaphore(parallelism);
+        Map<String, CompletableFuture<SearchResponseDto>> futures = new LinkedHashMap<>();
+        for (String interest : interests) {
+            acquire(permits);
+            futures.put(interest, CompletableFuture
+                    .supplyAsync(() -> keywordService.summarizeKeywordNews(new SearchNewsRequestDto(interest)),
+                            applicationTaskExecutor)
+                    .whenComplete((response, failure) -> permits.release()));
+        }
+
+        return merge(interests, futures);
+    }
+
+    // URL이 같은 기사는 한 번만 포함하고 최신순으로 정렬
+    private FeedResponseDto merge(List<String> interests, Map<String, CompletableFuture<SearchResponseDto>> futures) {
+        Map<String, NewsSummaryDto> uniqueNews = new LinkedHashMap<>();
+        List<NewsSummaryDto> withoutUrl = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        futures.forEach((interest, future) -> {
+            SearchResponseDto response = join(future, interest);
+            if (response == null) {
+                failed.add(interest);
+                return;
+            }
+            if (response.getNews() == null) {
+                return;
+            }
+            for (NewsSummaryDto news : response.getNews()) {
+                if (news.getUrl() == null) {
+                    withoutUrl.add(news);
+                } else {
+                    uniqueNews.putIfAbsent(news.getUrl(), news);
+                }
+            }
+        });
+
+        // 모든 관심사가 실패한 피드는 캐시하지 않고 마지막 정상 피드로 대체
+        if (failed.size() == interests.size()) {
+            throw new CustomException(ErrorType.NEWS_BACKEND_DEGRADED);
+        }
+
+        List<NewsSummaryDto> merged = new ArrayList<>(uniqueNews.values());
+        merged.addAll(withoutUrl);
+        List<NewsSummaryDto> ranked = merged.stream()
+                .sorted(LATEST_FIRST)
+                .limit(maxArticles)
+                .toList();
+        return new FeedResponseDto(interests, ranked, failed);
+    }
+
+    private SearchResponseDto join(CompletableFuture<SearchResponseDto> future, String interest) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 일부 관심사가 실패해도 나머지 결과는 반환
+            log.warn("Failed to load feed interest. interest={}", interest, e.getCause());
+            return null;
+        }
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for feed permit", e);
+        }
+    }
+}
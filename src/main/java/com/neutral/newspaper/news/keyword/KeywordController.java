@@ -1,25 +1,137 @@
 package com.neutral.newspaper.news.keyword;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
+import com.neutral.newspaper.news.keyword.domain.KeywordQueryDto;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
 import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
 import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
 import com.neutral.newspaper.news.keyword.service.KeywordService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/keyword")
 @RequiredArgsConstructor
 public class KeywordController {
 
+    private static final byte[] SSE_DONE_EVENT = "event: done\ndata: \n\n".getBytes(StandardCharsets.UTF_8);
+    private static final Set<String> PROJECTABLE_FIELDS =
+            Set.of("title", "url", "date", "content", "sentiment", "contentSummarized");
+
     private final KeywordService keywordService;
+    private final ObjectMapper objectMapper;
 
+    // fields, sentiment, from, to, cursor, size 쿼리 파라미터로 필요한 기사와 필드만 응답
     @PostMapping
-    public ResponseEntity<SearchResponseDto> getKeywordSummary(@RequestBody SearchNewsRequestDto searchNewsRequest) {
-        SearchResponseDto response = keywordService.summarizeKeywordNews(searchNewsRequest);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<MappingJacksonValue> getKeywordSummary(@RequestBody SearchNewsRequestDto searchNewsRequest,
+                                                                 @ModelAttribute KeywordQueryDto query) {
+        SearchResponseDto response = keywordService.summarizeKeywordNews(searchNewsRequest, query);
+        return ResponseEntity.ok(project(response, query.getFields()));
+    }
+
+    // 캐시 가능한 조회, If-None-Match가 ETag와 같으면 필터와 페이지 조건을 적용하거나 직렬화하지 않고 304 반환
+    @GetMapping
+    public ResponseEntity<MappingJacksonValue> getKeywordSummaryCacheable(@RequestParam String topic,
+                                                                          @ModelAttribute KeywordQueryDto query,
+                                                                          WebRequest webRequest) {
+        Cached<SearchResponseDto> cached =
+                keywordService.summarizeKeywordNewsCached(new SearchNewsRequestDto(topic), query);
+        // checkNotModified가 weak 비교로 If-None-Match를 확인하고 ETag 헤더를 설정
+        if (cached.etag() != null && webRequest.checkNotModified(cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cached.cacheControl())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+
+        SearchResponseDto response = keywordService.applyQuery(cached.value(), query);
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(cached.cacheControl())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(project(response, query.getFields()));
+    }
+
+    // 이전에 요약된 기사를 저장소에서 조회
+    @GetMapping("/history")
+    public ResponseEntity<SearchResponseDto> getKeywordHistory(@RequestParam String topic,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(keywordService.findKeywordHistory(topic, size));
+    }
+
+    // 요약이 끝난 기사부터 Server-Sent Events로 하나씩 전송
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamKeywordSummaryAsEvents(
+            @RequestBody SearchNewsRequestDto searchNewsRequest) {
+        StreamingResponseBody body = outputStream -> {
+            keywordService.streamKeywordNews(searchNewsRequest, news ->
+                    write(outputStream, "event: news\ndata: ", news, "\n\n"));
+            outputStream.write(SSE_DONE_EVENT);
+            outputStream.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(body);
+    }
+
+    // 요약이 끝난 기사부터 NDJSON(한 줄에 기사 하나)으로 전송
+    @PostMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamKeywordSummaryAsNdjson(
+            @RequestBody SearchNewsRequestDto searchNewsRequest) {
+        StreamingResponseBody body = outputStream ->
+                keywordService.streamKeywordNews(searchNewsRequest, news ->
+                        write(outputStream, "", news, "\n"));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 요청한 필드만 직렬화, 지정하지 않으면 전체 필드
+    private MappingJacksonValue project(SearchResponseDto response, List<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(response);
+        if (fields == null || fields.isEmpty()) {
+            return value;
+        }
+
+        Set<String> selected = fields.stream()
+                .map(String::trim)
+                .filter(PROJECTABLE_FIELDS::contains)
+                .collect(Collectors.toSet());
+        if (!selected.isEmpty()) {
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(NewsSummaryDto.FIELD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        }
+        return value;
+    }
+
+    private void write(OutputStream outputStream, String prefix, NewsSummaryDto news, String suffix) {
+        try {
+            outputStream.write(prefix.getBytes(StandardCharsets.UTF_8));
+            outputStream.write(objectMapper.writeValueAsBytes(news));
+            outputStream.write(suffix.getBytes(StandardCharsets.UTF_8));
+            // 기사마다 flush해서 클라이언트가 바로 받을 수 있도록 함
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.neutral.newspaper.news.keyword;
+
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.ReactiveKeywordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// /keyword와 같은 요청/응답 형식을 유지하면서 요청 스레드를 점유하지 않는 WebClient 기반 엔드포인트
+@RestController
+@RequestMapping("/keyword/reactive")
+@RequiredArgsConstructor
+public class ReactiveKeywordController {
+
+    private final ReactiveKeywordService reactiveKeywordService;
+
+    @PostMapping
+    public Mono<ResponseEntity<SearchResponseDto>> getKeywordSummary(@RequestBody SearchNewsRequestDto searchNewsRequest) {
+        return reactiveKeywordService.summarizeKeywordNews(searchNewsRequest)
+                .map(ResponseEntity::ok);
+    }
+
+    // 클라이언트가 읽은 만큼만 요약 서버 응답을 읽어오도록 backpressure를 전달
+    @PostMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<NewsSummaryDto> streamKeywordSummary(@RequestBody SearchNewsRequestDto searchNewsRequest) {
+        return reactiveKeywordService.streamKeywordNews(searchNewsRequest);
+    }
+}
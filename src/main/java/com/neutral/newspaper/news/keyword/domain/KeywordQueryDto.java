@@ -0,0 +1,30 @@
+package com.neutral.newspaper.news.keyword.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+// 키워드 검색 결과에 적용할 필드 선택, 필터, 페이지 조건
+@Getter
+@Setter
+@NoArgsConstructor
+public class KeywordQueryDto {
+    private List<String> fields;
+    private List<String> sentiment;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String cursor;
+    private Integer size;
+
+    public boolean isPaged() {
+        return cursor != null || size != null;
+    }
+}
@@ -1,13 +1,19 @@
 package com.neutral.newspaper.news.keyword.domain;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDate;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(NewsSummaryDto.FIELD_FILTER)
 public class NewsSummaryDto {
+    public static final String FIELD_FILTER = "newsSummaryFields";
+
     private String title;
     private String url;
 
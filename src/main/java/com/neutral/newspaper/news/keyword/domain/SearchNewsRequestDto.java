@@ -1,10 +1,12 @@
 package com.neutral.newspaper.news.keyword.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class SearchNewsRequestDto {
     private String topic;
 }
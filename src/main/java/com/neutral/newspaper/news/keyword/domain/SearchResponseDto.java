@@ -1,5 +1,6 @@
 package com.neutral.newspaper.news.keyword.domain;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,4 +9,8 @@ import lombok.Setter;
 @Setter
 public class SearchResponseDto {
     private List<NewsSummaryDto> news;
+
+    // 다음 페이지가 있을 때만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
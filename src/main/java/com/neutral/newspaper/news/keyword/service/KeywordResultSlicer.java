@@ -0,0 +1,102 @@
+package com.neutral.newspaper.news.keyword.service;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.keyword.domain.KeywordQueryDto;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+// 캐시된 검색 결과는 여러 요청이 공유하므로 수정하지 않고 새 응답을 만들어 반환
+@Component
+public class KeywordResultSlicer {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // 최신 기사부터, 날짜가 같으면 URL 순으로 정렬해서 목록이 갱신돼도 커서 위치가 유지됨
+    private static final Comparator<NewsSummaryDto> PAGE_ORDER = Comparator
+            .comparing(NewsSummaryDto::getDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(NewsSummaryDto::getUrl, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    public SearchResponseDto slice(SearchResponseDto source, KeywordQueryDto query) {
+        SearchResponseDto response = new SearchResponseDto();
+        List<NewsSummaryDto> news = source == null || source.getNews() == null ? List.of() : source.getNews();
+
+        Stream<NewsSummaryDto> filtered = news.stream().filter(matches(query));
+        if (!query.isPaged()) {
+            response.setNews(filtered.toList());
+            return response;
+        }
+
+        Stream<NewsSummaryDto> ordered = filtered.sorted(PAGE_ORDER);
+        if (query.getCursor() != null) {
+            NewsSummaryDto last = decodeCursor(query.getCursor());
+            ordered = ordered.filter(item -> PAGE_ORDER.compare(item, last) > 0);
+        }
+
+        int size = query.getSize() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(query.getSize(), 1), MAX_PAGE_SIZE);
+        // 한 건을 더 읽어서 다음 페이지 여부를 판단
+        List<NewsSummaryDto> page = ordered.limit(size + 1L).toList();
+        if (page.size() > size) {
+            page = page.subList(0, size);
+            response.setNextCursor(encodeCursor(page.get(size - 1)));
+        }
+        response.setNews(page);
+        return response;
+    }
+
+    private Predicate<NewsSummaryDto> matches(KeywordQueryDto query) {
+        Set<String> sentiments = query.getSentiment() == null ? Set.of() : query.getSentiment().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+        LocalDate from = query.getFrom();
+        LocalDate to = query.getTo();
+
+        return news -> {
+            if (!sentiments.isEmpty() && !sentiments.contains(news.getSentiment())) {
+                return false;
+            }
+            if (from != null && (news.getDate() == null || news.getDate().isBefore(from))) {
+                return false;
+            }
+            return to == null || (news.getDate() != null && !news.getDate().isAfter(to));
+        };
+    }
+
+    private String encodeCursor(NewsSummaryDto news) {
+        String date = news.getDate() == null ? "" : news.getDate().toString();
+        String url = news.getUrl() == null ? "" : news.getUrl();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date + "|" + url).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private NewsSummaryDto decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new CustomException(ErrorType.INVALID_NEWS_CURSOR);
+            }
+            String date = decoded.substring(0, separator);
+            String url = decoded.substring(separator + 1);
+            return new NewsSummaryDto(null, url.isEmpty() ? null : url,
+                    date.isEmpty() ? null : LocalDate.parse(date), null, null, null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorType.INVALID_NEWS_CURSOR);
+        }
+    }
+}
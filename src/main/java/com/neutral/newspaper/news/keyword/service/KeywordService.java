@@ -1,25 +1,209 @@
 package com.neutral.newspaper.news.keyword.service;
 
+import com.neutral.newspaper.news.article.service.ArticleIndexProperties;
+import com.neutral.newspaper.news.article.service.ArticleService;
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
+import com.neutral.newspaper.news.cache.SingleFlightService;
+import com.neutral.newspaper.news.keyword.domain.KeywordQueryDto;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
 import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
 import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer.CanonicalTopic;
+import com.neutral.newspaper.news.sentiment.service.SentimentAggregateService;
+import com.neutral.newspaper.redis.RedisService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
 
+    private static final int ARTICLE_BATCH_SIZE = 20;
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final String FETCHED_AT_NAMESPACE = "keyword-fetched";
+
     private final RestTemplate restTemplate;
+    private final SingleFlightService singleFlightService;
+    private final NewsCacheProperties newsCacheProperties;
+    private final NewsSummaryStreamReader newsSummaryStreamReader;
+    private final NewsCacheService newsCacheService;
+    private final NewsBackendGuard newsBackendGuard;
+    private final ArticleService articleService;
+    private final KeywordResultSlicer keywordResultSlicer;
+    private final TopicCanonicalizer topicCanonicalizer;
+    private final SentimentAggregateService sentimentAggregateService;
+    private final ArticleIndexProperties articleIndexProperties;
+    private final RedisService redisService;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    // 이 노드에서 백그라운드로 다시 가져오는 중인 토픽
+    private final Set<String> refreshingTopics = ConcurrentHashMap.newKeySet();
 
-    @Transactional
+    // 토픽별 전체 결과를 캐시해서 같은 토픽의 요청은 요약 서버를 다시 호출하지 않음
+    // 캐시가 없을 때 같은 토픽에 대한 동시 요청은 요약 서버 호출 한 번의 결과를 함께 사용
+    // 요약 서버가 불안정하면 해당 토픽의 마지막 정상 응답으로 대체
+    // 표기만 다른 토픽은 정규화된 같은 키로 묶어서 요약 서버에 한 번만 요청
     public SearchResponseDto summarizeKeywordNews(SearchNewsRequestDto searchNewsRequest) {
+        return loadKeywordNews(searchNewsRequest).value();
+    }
+
+    // 캐시된 전체 결과에 필터와 페이지 조건을 적용, 페이지나 커서가 바뀌어도 요약 서버를 다시 호출하지 않음
+    public SearchResponseDto summarizeKeywordNews(SearchNewsRequestDto searchNewsRequest, KeywordQueryDto query) {
+        return applyQuery(summarizeKeywordNews(searchNewsRequest), query);
+    }
+
+    // GET 응답용, 캐시 항목의 저장 시각과 ETag로 Cache-Control과 ETag를 만들 수 있도록 반환
+    // 값은 필터와 페이지 조건을 적용하기 전의 전체 결과이므로 ETag를 비교한 뒤 applyQuery로 적용
+    public Cached<SearchResponseDto> summarizeKeywordNewsCached(SearchNewsRequestDto searchNewsRequest,
+                                                                KeywordQueryDto query) {
+        Cached<SearchResponseDto> cached = loadKeywordNews(searchNewsRequest);
+        return new Cached<>(cached.value(), cached.cachedAt(), etag(cached.etag(), query), cached.policy());
+    }
+
+    public SearchResponseDto applyQuery(SearchResponseDto response, KeywordQueryDto query) {
+        return keywordResultSlicer.slice(response, query);
+    }
+
+    // 요약 서버 응답을 기사 단위로 읽으면서 바로 consumer에 넘김, 전체 목록을 메모리에 모아두지 않음
+    public int streamKeywordNews(SearchNewsRequestDto searchNewsRequest, Consumer<NewsSummaryDto> consumer) {
+        String url = "http://localhost:5000/topic-search";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+
+        CanonicalTopic topic = topicCanonicalizer.canonicalize(searchNewsRequest.getTopic());
+        SearchNewsRequestDto canonicalRequest = new SearchNewsRequestDto(topic.topic());
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(canonicalRequest, headers));
+
+        // 전송한 기사는 일정 개수씩 모아서 저장소에 반영
+        List<NewsSummaryDto> pending = new ArrayList<>(ARTICLE_BATCH_SIZE);
+        Consumer<NewsSummaryDto> storingConsumer = news -> {
+            consumer.accept(news);
+            pending.add(news);
+            if (pending.size() >= ARTICLE_BATCH_SIZE) {
+                storeArticles(topic.key(), List.copyOf(pending));
+                pending.clear();
+            }
+        };
+
+        // 받는 도중 기사를 내보내고 저장하므로 헤지하지 않음
+        Integer count = newsBackendGuard.callOnce(NewsBackendGuard.KEYWORD_BACKEND, () ->
+                restTemplate.execute(url, HttpMethod.POST, requestCallback, response ->
+                        newsSummaryStreamReader.read(response.getBody(), response.getHeaders().getContentType(),
+                                storingConsumer)));
+        storeArticles(topic.key(), pending);
+        markFetched(topic.key());
+
+        return count == null ? 0 : count;
+    }
+
+    private Cached<SearchResponseDto> loadKeywordNews(SearchNewsRequestDto searchNewsRequest) {
+        CanonicalTopic topic = topicCanonicalizer.canonicalize(searchNewsRequest.getTopic());
+        String cacheKey = NewsCacheKey.of("keyword", topic.key());
+
+        return newsCacheService.getOrLoadCached(cacheKey, SearchResponseDto.class, newsCacheProperties.getKeyword(),
+                () -> searchIndexedOrFetch(topic, cacheKey));
+    }
+
+    private SearchResponseDto searchIndexedOrFetch(CanonicalTopic topic, String cacheKey) {
+        // 이미 요약된 기사로 충분히 답할 수 있으면 요약 서버를 기다리지 않음
+        // 토픽을 가져온 지 freshFor가 지났다면 색인으로 응답하고 백그라운드에서 한 번 다시 가져와서 캐시를 교체
+        Optional<List<NewsSummaryDto>> indexed = articleService.searchIndexed(topic.topic());
+        if (indexed.isPresent()) {
+            if (!isFetchedRecently(topic.key())) {
+                refreshInBackground(topic, cacheKey);
+            }
+            SearchResponseDto response = new SearchResponseDto();
+            response.setNews(indexed.get());
+            return response;
+        }
+
+        return fetchKeywordNewsOnce(topic, cacheKey);
+    }
+
+    private SearchResponseDto fetchKeywordNewsOnce(CanonicalTopic topic, String cacheKey) {
+        SearchNewsRequestDto canonicalRequest = new SearchNewsRequestDto(topic.topic());
+        return singleFlightService.execute(cacheKey, SearchResponseDto.class, newsCacheProperties.getKeywordLease(),
+                () -> fetchKeywordNews(topic.key(), canonicalRequest));
+    }
+
+    private void refreshInBackground(CanonicalTopic topic, String cacheKey) {
+        if (!refreshingTopics.add(topic.key())) {
+            return;
+        }
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    newsCacheService.refresh(cacheKey, newsCacheProperties.getKeyword(),
+                            () -> fetchKeywordNewsOnce(topic, cacheKey));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh indexed topic. topic={}, cause={}", topic.key(), e.getMessage());
+                } finally {
+                    refreshingTopics.remove(topic.key());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to schedule indexed topic refresh. topic={}", topic.key(), e);
+            refreshingTopics.remove(topic.key());
+        }
+    }
+
+    // 토픽별로 요약 서버에서 마지막으로 가져온 시각, freshFor 동안만 보관
+    private boolean isFetchedRecently(String topicKey) {
+        try {
+            return redisService.getData(NewsCacheKey.of(FETCHED_AT_NAMESPACE, topicKey)) != null;
+        } catch (DataAccessException e) {
+            // 확인할 수 없으면 오래된 것으로 보고 갱신, 같은 토픽의 갱신은 노드마다 한 번만 실행됨
+            log.warn("Failed to read topic fetched time. cause={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void markFetched(String topicKey) {
+        try {
+            redisService.saveData(NewsCacheKey.of(FETCHED_AT_NAMESPACE, topicKey),
+                    String.valueOf(System.currentTimeMillis()),
+                    articleIndexProperties.getFreshFor().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Failed to store topic fetched time. cause={}", e.getMessage());
+        }
+    }
+
+    // 저장된 기사에서 토픽을 검색, 요약 서버를 호출하지 않음
+    public SearchResponseDto findKeywordHistory(String topic, int size) {
+        SearchResponseDto response = new SearchResponseDto();
+        response.setNews(articleService.findHistory(topic, Math.min(Math.max(size, 1), MAX_HISTORY_SIZE)));
+        return response;
+    }
+
+    private SearchResponseDto fetchKeywordNews(String topicKey, SearchNewsRequestDto searchNewsRequest) {
         String url = "http://localhost:5000/topic-search";
 
         HttpHeaders headers = new HttpHeaders();
@@ -27,9 +211,65 @@ public class KeywordService {
 
         HttpEntity<SearchNewsRequestDto> request = new HttpEntity<>(searchNewsRequest, headers);
 
-        ResponseEntity<SearchResponseDto> response =
-                restTemplate.exchange(url, HttpMethod.POST, request, SearchResponseDto.class);
+        ResponseEntity<SearchResponseDto> response = newsBackendGuard.call(NewsBackendGuard.KEYWORD_BACKEND, () ->
+                restTemplate.exchange(url, HttpMethod.POST, request, SearchResponseDto.class));
+
+        SearchResponseDto body = response.getBody();
+        if (body != null && body.getNews() != null) {
+            body.setNews(storeArticles(topicKey, body.getNews()));
+        }
+        markFetched(topicKey);
+        return body;
+    }
+
+    // 기사 저장과 감정 집계에 실패해도 요약 서버 응답은 그대로 돌려줌
+    private List<NewsSummaryDto> storeArticles(String topicKey, List<NewsSummaryDto> news) {
+        if (news.isEmpty()) {
+            return news;
+        }
+        List<NewsSummaryDto> merged = news;
+        try {
+            merged = articleService.mergeSummaries(topicKey, news);
+        } catch (DataAccessException e) {
+            // 재시도해도 저장하지 못한 기사는 다음 요청에서 다시 반영됨
+            log.warn("Failed to store articles. topic={}, cause={}", topicKey, e.getMessage());
+        }
+        try {
+            sentimentAggregateService.record(topicKey, merged);
+        } catch (DataAccessException e) {
+            // 집계하지 못한 기사는 백필로 다시 채울 수 있음
+            log.warn("Failed to record sentiment. topic={}, cause={}", topicKey, e.getMessage());
+        }
+        return merged;
+    }
+
+    // 캐시 항목의 ETag(전체 결과의 해시)와 조회 조건으로 strong ETag 계산, 응답을 만들거나 직렬화하지 않음
+    // 대체 응답처럼 항목 ETag가 없으면 null
+    private String etag(String entryEtag, KeywordQueryDto query) {
+        if (entryEtag == null) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        update(digest, entryEtag);
+        update(digest, query.getFields() == null ? null : String.join(",", query.getFields()));
+        update(digest, query.getSentiment() == null ? null : String.join(",", query.getSentiment()));
+        update(digest, query.getFrom() == null ? null : query.getFrom().toString());
+        update(digest, query.getTo() == null ? null : query.getTo().toString());
+        update(digest, query.getCursor());
+        update(digest, query.getSize() == null ? null : query.getSize().toString());
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+    }
 
-        return response.getBody();
+    private void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // 필드 경계를 구분해서 ("ab", "c")와 ("a", "bc")가 같은 해시가 되지 않도록 함
+        digest.update((byte) 0);
     }
 }
@@ -0,0 +1,23 @@
+package com.neutral.newspaper.news.keyword.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.keyword.topic")
+public class KeywordTopicProperties {
+
+    // 토픽 끝에서 제거할 조사, 긴 조사부터 비교
+    private List<String> particles = new ArrayList<>(List.of("에서", "에게", "으로", "은", "는", "을", "를"));
+
+    // 뒤에 붙은 조사를 제거할 토픽, 동의어 묶음의 이름도 포함됨
+    // 목록에 없는 단어는 "한마을"처럼 마지막 글자가 조사와 같아도 그대로 유지
+    private List<String> knownTopics = new ArrayList<>();
+
+    // 같은 토픽으로 처리할 이름 묶음, 각 묶음의 첫 번째 이름을 대표 토픽으로 사용
+    private List<List<String>> synonyms = new ArrayList<>();
+}
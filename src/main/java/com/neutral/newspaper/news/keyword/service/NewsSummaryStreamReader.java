@@ -0,0 +1,67 @@
+package com.neutral.newspaper.news.keyword.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+// 요약 서버 응답을 전부 메모리에 올리지 않고 기사 단위로 읽어서 넘겨줌
+@Component
+@RequiredArgsConstructor
+public class NewsSummaryStreamReader {
+
+    private static final String NEWS_FIELD = "news";
+
+    private final ObjectMapper objectMapper;
+
+    public int read(InputStream body, MediaType contentType, Consumer<NewsSummaryDto> consumer) throws IOException {
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return readNdjson(body, consumer);
+        }
+        return readNewsArray(body, consumer);
+    }
+
+    // 한 줄에 기사 하나씩 오는 NDJSON 응답
+    private int readNdjson(InputStream body, Consumer<NewsSummaryDto> consumer) throws IOException {
+        int count = 0;
+        try (MappingIterator<NewsSummaryDto> iterator = objectMapper.readerFor(NewsSummaryDto.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                consumer.accept(iterator.nextValue());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // {"news": [...]} 형식의 기존 응답, news 배열의 원소를 하나씩 읽음
+    private int readNewsArray(InputStream body, Consumer<NewsSummaryDto> consumer) throws IOException {
+        int count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return count;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!NEWS_FIELD.equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(objectMapper.readValue(parser, NewsSummaryDto.class));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
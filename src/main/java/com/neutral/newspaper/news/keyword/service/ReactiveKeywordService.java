@@ -0,0 +1,79 @@
+package com.neutral.newspaper.news.keyword.service;
+
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer.CanonicalTopic;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveKeywordService {
+
+    private static final String TOPIC_SEARCH_URL = "http://localhost:5000/topic-search";
+
+    private final WebClient newsWebClient;
+    private final NewsCacheService newsCacheService;
+    private final NewsBackendGuard newsBackendGuard;
+    private final TopicCanonicalizer topicCanonicalizer;
+
+    // 이 노드에서 진행 중인 토픽별 요약 요청, 같은 토픽의 동시 요청은 요약 서버 호출 한 번을 함께 구독
+    private final Map<String, Mono<SearchResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    // /keyword와 같은 키로 마지막 정상 응답을 공유해서 요약 서버가 불안정하면 그 응답으로 대체
+    public Mono<SearchResponseDto> summarizeKeywordNews(SearchNewsRequestDto searchNewsRequest) {
+        CanonicalTopic topic = topicCanonicalizer.canonicalize(searchNewsRequest.getTopic());
+        String flightKey = NewsCacheKey.of("keyword", topic.key());
+        SearchNewsRequestDto canonicalRequest = new SearchNewsRequestDto(topic.topic());
+
+        return inFlight.computeIfAbsent(flightKey, key -> newsCacheService.loadWithFallback(key,
+                        SearchResponseDto.class, fetchKeywordNews(canonicalRequest))
+                .doFinally(signal -> inFlight.remove(key))
+                .cache());
+    }
+
+    // 요약 서버가 NDJSON으로 응답하면 기사 단위로 디코딩하고, 아니면 news 배열을 풀어서 전달
+    // 받는 도중 기사를 내보내므로 실패해도 다른 응답으로 대체하지 않음
+    public Flux<NewsSummaryDto> streamKeywordNews(SearchNewsRequestDto searchNewsRequest) {
+        CanonicalTopic topic = topicCanonicalizer.canonicalize(searchNewsRequest.getTopic());
+
+        return newsBackendGuard.streamReactive(NewsBackendGuard.KEYWORD_BACKEND, newsWebClient.post()
+                .uri(TOPIC_SEARCH_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .bodyValue(new SearchNewsRequestDto(topic.topic()))
+                .exchangeToFlux(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.<NewsSummaryDto>createError().flux();
+                    }
+                    boolean ndjson = response.headers().contentType()
+                            .map(MediaType.APPLICATION_NDJSON::isCompatibleWith)
+                            .orElse(false);
+                    if (ndjson) {
+                        return response.bodyToFlux(NewsSummaryDto.class);
+                    }
+                    return response.bodyToMono(SearchResponseDto.class)
+                            .flatMapIterable(body -> body.getNews() == null ? List.of() : body.getNews());
+                }));
+    }
+
+    private Mono<SearchResponseDto> fetchKeywordNews(SearchNewsRequestDto searchNewsRequest) {
+        return newsBackendGuard.callReactive(NewsBackendGuard.KEYWORD_BACKEND, newsWebClient.post()
+                .uri(TOPIC_SEARCH_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(searchNewsRequest)
+                .retrieve()
+                .bodyToMono(SearchResponseDto.class));
+    }
+}
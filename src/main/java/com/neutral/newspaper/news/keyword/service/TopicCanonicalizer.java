@@ -0,0 +1,134 @@
+package com.neutral.newspaper.news.keyword.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+// 표기만 다른 토픽("삼성전자", " 삼성전자 ", "삼성 전자", "삼성전자는")이 같은 캐시 키와 요약 요청을 쓰도록 정규화
+@Component
+public class TopicCanonicalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<String> particles;
+    // 조사를 제거해도 되는 어간, 설정된 토픽과 동의어의 단어
+    private final Set<String> knownStems = new HashSet<>();
+    private final Map<String, String> synonyms = new HashMap<>();
+
+    private final Counter unchanged;
+    private final Counter normalized;
+    private final Counter synonym;
+
+    public TopicCanonicalizer(KeywordTopicProperties properties, MeterRegistry meterRegistry) {
+        this.particles = properties.getParticles().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+
+        // "한마을"의 "을"처럼 명사의 마지막 글자가 조사와 같을 수 있어서 아는 단어 뒤의 조사만 제거
+        for (String known : properties.getKnownTopics()) {
+            addKnownStems(known);
+        }
+        for (List<String> group : properties.getSynonyms()) {
+            if (group != null) {
+                group.forEach(this::addKnownStems);
+            }
+        }
+
+        // 별칭의 키 → 대표 토픽
+        for (List<String> group : properties.getSynonyms()) {
+            if (group == null || group.isEmpty()) {
+                continue;
+            }
+            String canonical = normalize(group.get(0));
+            for (String alias : group) {
+                synonyms.put(toKey(normalize(alias)), canonical);
+            }
+        }
+
+        // 정규화로 다른 요청과 키를 공유하게 된 비율을 캐시/single-flight 적중률과 함께 확인
+        this.unchanged = counter(meterRegistry, "unchanged");
+        this.normalized = counter(meterRegistry, "normalized");
+        this.synonym = counter(meterRegistry, "synonym");
+    }
+
+    public CanonicalTopic canonicalize(String topic) {
+        String value = normalize(topic);
+        String key = toKey(value);
+
+        String canonical = synonyms.get(key);
+        if (canonical != null && !canonical.equals(value)) {
+            synonym.increment();
+            return new CanonicalTopic(canonical, toKey(canonical));
+        }
+
+        if (value.equals(topic)) {
+            unchanged.increment();
+        } else {
+            normalized.increment();
+        }
+        return new CanonicalTopic(value, key);
+    }
+
+    // NFC 정규화, 공백 정리, 소문자 변환, 단어 끝 조사 제거
+    private String normalize(String topic) {
+        return Arrays.stream(words(topic))
+                .map(this::stripParticle)
+                .collect(Collectors.joining(" "));
+    }
+
+    private String[] words(String topic) {
+        if (topic == null) {
+            return new String[0];
+        }
+        String value = Normalizer.normalize(topic, Normalizer.Form.NFC).trim().toLowerCase(Locale.ROOT);
+        return value.isEmpty() ? new String[0] : WHITESPACE.split(value);
+    }
+
+    private void addKnownStems(String topic) {
+        String[] words = words(topic);
+        if (words.length == 0) {
+            return;
+        }
+        knownStems.addAll(Arrays.asList(words));
+        knownStems.add(String.join("", words));
+    }
+
+    private String stripParticle(String word) {
+        for (String particle : particles) {
+            if (!word.endsWith(particle)) {
+                continue;
+            }
+            String stem = word.substring(0, word.length() - particle.length());
+            if (knownStems.contains(stem)) {
+                return stem;
+            }
+        }
+        return word;
+    }
+
+    // 띄어쓰기만 다른 토픽도 같은 키를 갖도록 공백 제거
+    private String toKey(String value) {
+        return value.replace(" ", "");
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("news.keyword.topic.canonicalized")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // topic: 요약 서버에 보낼 토픽, key: 캐시와 single-flight 키
+    public record CanonicalTopic(String topic, String key) {
+    }
+}
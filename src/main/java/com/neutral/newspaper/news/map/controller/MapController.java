@@ -1,10 +1,17 @@
 package com.neutral.newspaper.news.map.controller;
 
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
+import com.neutral.newspaper.news.map.domain.MapBatchRequestDto;
+import com.neutral.newspaper.news.map.domain.MapBatchResponseDto;
 import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.MapBatchService;
 import com.neutral.newspaper.news.map.service.MapService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,11 +22,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class MapController {
 
     private final MapService mapService;
+    private final MapBatchService mapBatchService;
 
     @PostMapping
     public ResponseEntity<SearchRegionNewsResponseDto> getRegionNews(
             @RequestParam String region, @RequestParam String category) {
-        SearchRegionNewsResponseDto response = mapService.findRegionNews(region, category);
+        SearchRegionNewsResponseDto response = mapService.findRegionNews(region, category).value();
+        return ResponseEntity.ok(response);
+    }
+
+    // 캐시 가능한 조회, If-None-Match가 ETag와 같으면 본문 없이 304 반환
+    @GetMapping
+    public ResponseEntity<SearchRegionNewsResponseDto> getRegionNewsCacheable(
+            @RequestParam String region, @RequestParam String category) {
+        Cached<SearchRegionNewsResponseDto> cached = mapService.findRegionNews(region, category);
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(cached.cacheControl())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(cached.value());
+    }
+
+    // 여러 지역/카테고리를 한 번에 조회해서 지역별로 합친 결과를 반환
+    @PostMapping("/batch")
+    public ResponseEntity<MapBatchResponseDto> getRegionNewsBatch(@RequestBody MapBatchRequestDto batchRequest) {
+        MapBatchResponseDto response = mapBatchService.findRegionNewsBatch(batchRequest);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,35 @@
+package com.neutral.newspaper.news.map.controller;
+
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.ReactiveMapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// /map과 같은 요청/응답 형식을 유지하면서 요청 스레드를 점유하지 않는 WebClient 기반 엔드포인트
+@RestController
+@RequestMapping("/map/reactive")
+@RequiredArgsConstructor
+public class ReactiveMapController {
+
+    private final ReactiveMapService reactiveMapService;
+
+    @PostMapping
+    public Mono<ResponseEntity<SearchRegionNewsResponseDto>> getRegionNews(
+            @RequestParam String region, @RequestParam String category) {
+        return reactiveMapService.findRegionNews(region, category)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<NewsInfoDto> streamRegionNews(@RequestParam String region, @RequestParam String category) {
+        return reactiveMapService.streamRegionNews(region, category);
+    }
+}
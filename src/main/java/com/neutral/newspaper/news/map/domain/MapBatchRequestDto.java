@@ -0,0 +1,14 @@
+package com.neutral.newspaper.news.map.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapBatchRequestDto {
+    private List<String> regions;
+    private List<String> categories;
+}
@@ -0,0 +1,16 @@
+package com.neutral.newspaper.news.map.domain;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MapBatchResponseDto {
+    // 지역별 기사 목록, 여러 카테고리에 중복으로 포함된 기사(link 기준)는 한 번만 포함
+    private Map<String, List<NewsInfoDto>> news;
+
+    // 조회에 실패한 "지역:카테고리" 조합
+    private List<String> failed;
+}
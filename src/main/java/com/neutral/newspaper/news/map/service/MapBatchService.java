@@ -0,0 +1,137 @@
+package com.neutral.newspaper.news.map.service;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.map.domain.MapBatchRequestDto;
+import com.neutral.newspaper.news.map.domain.MapBatchResponseDto;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class MapBatchService {
+
+    private final MapService mapService;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    // 요청 하나가 동시에 실행할 수 있는 지역/카테고리 조회 수
+    private final int parallelism;
+
+    // 요청 하나에 포함될 수 있는 지역/카테고리 조합 수
+    private final int maxPairs;
+
+    public MapBatchService(MapService mapService,
+                           AsyncTaskExecutor applicationTaskExecutor,
+                           @Value("${news.map.batch.parallelism:8}") int parallelism,
+                           @Value("${news.map.batch.max-pairs:100}") int maxPairs) {
+        this.mapService = mapService;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.parallelism = parallelism;
+        this.maxPairs = maxPairs;
+    }
+
+    public MapBatchResponseDto findRegionNewsBatch(MapBatchRequestDto batchRequest) {
+        List<String> regions = distinct(batchRequest.getRegions());
+        List<String> categories = distinct(batchRequest.getCategories());
+
+        if (regions.isEmpty() || categories.isEmpty() || regions.size() * categories.size() > maxPairs) {
+            throw new CustomException(ErrorType.INVALID_MAP_BATCH_REQUEST);
+        }
+
+        // 지역/카테고리 조합을 동시에 조회하되, 동시에 실행되는 조회 수는 parallelism으로 제한
+        Semaphore permits = new Semaphore(parallelism);
+        Map<String, Map<String, CompletableFuture<SearchRegionNewsResponseDto>>> futures = new LinkedHashMap<>();
+        for (String region : regions) {
+            Map<String, CompletableFuture<SearchRegionNewsResponseDto>> byCategory = new LinkedHashMap<>();
+            for (String category : categories) {
+                acquire(permits);
+                CompletableFuture<SearchRegionNewsResponseDto> future = CompletableFuture
+                        .supplyAsync(() -> mapService.findRegionNews(region, category).value(), applicationTaskExecutor)
+                        .whenComplete((response, failure) -> permits.release());
+                byCategory.put(category, future);
+            }
+            futures.put(region, byCategory);
+        }
+
+        return merge(futures);
+    }
+
+    // 지역별로 카테고리 결과를 합치고 link가 같은 기사는 한 번만 포함
+    private MapBatchResponseDto merge(Map<String, Map<String, CompletableFuture<SearchRegionNewsResponseDto>>> futures) {
+        Map<String, List<NewsInfoDto>> newsByRegion = new LinkedHashMap<>();
+        List<String> failed = new ArrayList<>();
+
+        futures.forEach((region, byCategory) -> {
+            Map<String, NewsInfoDto> uniqueNews = new LinkedHashMap<>();
+            List<NewsInfoDto> withoutLink = new ArrayList<>();
+
+            byCategory.forEach((category, future) -> {
+                SearchRegionNewsResponseDto response = join(future, region, category);
+                if (response == null) {
+                    failed.add(region + ":" + category);
+                    return;
+                }
+                if (response.getNews() == null) {
+                    return;
+                }
+                for (NewsInfoDto news : response.getNews()) {
+                    if (news.getLink() == null) {
+                        withoutLink.add(news);
+                    } else {
+                        uniqueNews.putIfAbsent(news.getLink(), news);
+                    }
+                }
+            });
+
+            List<NewsInfoDto> merged = new ArrayList<>(uniqueNews.values());
+            merged.addAll(withoutLink);
+            newsByRegion.put(region, merged);
+        });
+
+        return new MapBatchResponseDto(newsByRegion, failed);
+    }
+
+    private SearchRegionNewsResponseDto join(CompletableFuture<SearchRegionNewsResponseDto> future,
+                                             String region, String category) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 일부 조합이 실패해도 나머지 결과는 반환
+            log.warn("Failed to find region news in batch. region={}, category={}", region, category, e.getCause());
+            return null;
+        }
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for map batch permit", e);
+        }
+    }
+
+    private List<String> distinct(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.neutral.newspaper.news.map.service;
+
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.map.service.MapCacheWarmerProperties.Pair;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 설정된 조합과 최근 인기 조합의 지역 뉴스 캐시를 만료 전에 미리 갱신
+// 한 주기에 한 노드만 실행하고, 갱신 요청은 초당 상한을 지키는 간격에 무작위 지연(jitter)을 더해서 분산해서 보냄
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapCacheWarmer {
+
+    private static final String LEASE_KEY = "news:map:warmer:lease";
+
+    private final MapService mapService;
+    private final MapPopularityTracker mapPopularityTracker;
+    private final MapCacheWarmerProperties properties;
+    private final RedisService redisService;
+    private final TaskScheduler taskScheduler;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Scheduled(initialDelayString = "${news.map.warmer.initial-delay:PT30S}",
+            fixedDelayString = "${news.map.warmer.interval:PT1M}")
+    public void warm() {
+        if (!properties.isEnabled() || !acquireLease()) {
+            return;
+        }
+
+        List<Pair> expiring = candidates().values().stream()
+                .filter(pair -> mapService.remainingFreshMillis(pair.getRegion(), pair.getCategory())
+                        < properties.getRefreshAhead().toMillis())
+                .limit(maxRefreshesPerCycle())
+                .toList();
+
+        long spacingMillis = spacingMillis();
+        long jitterMillis = properties.getJitter().toMillis();
+        Instant start = Instant.now();
+
+        // 연속한 두 갱신 사이는 항상 spacing 이상 벌어지고 jitter는 그 위에만 더해지므로 초당 상한을 넘지 않음
+        long delay = 0;
+        for (Pair pair : expiring) {
+            delay += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+            taskScheduler.schedule(() -> refresh(pair), start.plusMillis(delay));
+            delay += spacingMillis;
+        }
+
+        if (!expiring.isEmpty()) {
+            log.info("Scheduled map cache warm-up. pairs={}", expiring.size());
+        }
+    }
+
+    // 설정된 조합 + 최근 인기 조합, 캐시 키가 같은 조합은 한 번만 포함
+    // 인기 조합은 요청에 들어온 원래 지역/카테고리로 요약 서버에 보냄
+    private Map<String, Pair> candidates() {
+        Map<String, Pair> candidates = new LinkedHashMap<>();
+        properties.getPairs().forEach(pair ->
+                candidates.putIfAbsent(NewsCacheKey.of("map", pair.getRegion(), pair.getCategory()), pair));
+
+        try {
+            for (String[] popular : mapPopularityTracker.topPairs(properties.getPopularPairs(),
+                    properties.getPopularityWindowHours())) {
+                Pair pair = new Pair();
+                pair.setRegion(popular[0]);
+                pair.setCategory(popular[1]);
+                candidates.putIfAbsent(NewsCacheKey.of("map", popular[0], popular[1]), pair);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to load popular map pairs", e);
+        }
+        return candidates;
+    }
+
+    private void refresh(Pair pair) {
+        try {
+            mapService.warmRegionNews(pair.getRegion(), pair.getCategory());
+        } catch (RuntimeException e) {
+            log.warn("Failed to warm map cache. region={}, category={}", pair.getRegion(), pair.getCategory(), e);
+        }
+    }
+
+    // 초당 상한을 지키는 갱신 사이의 최소 간격, 내림하면 1초 안에 상한보다 하나 더 들어갈 수 있으므로 올림
+    private long spacingMillis() {
+        return (long) Math.ceil(1000 / properties.getMaxRefreshesPerSecond());
+    }
+
+    // jitter가 최대로 더해져도 한 주기 안에 끝나는 최대 갱신 수, 다음 주기의 갱신과 겹치지 않음
+    private long maxRefreshesPerCycle() {
+        return Math.max(1, properties.getInterval().toMillis() / (spacingMillis() + properties.getJitter().toMillis()));
+    }
+
+    private boolean acquireLease() {
+        try {
+            return redisService.saveDataIfAbsent(LEASE_KEY, nodeId,
+                    properties.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire map cache warmer lease", e);
+            return false;
+        }
+    }
+}
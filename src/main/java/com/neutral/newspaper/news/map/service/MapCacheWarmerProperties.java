@@ -0,0 +1,65 @@
+package com.neutral.newspaper.news.map.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.map.warmer")
+public class MapCacheWarmerProperties {
+
+    private boolean enabled = true;
+
+    // 애플리케이션 시작 후 첫 실행까지의 지연
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    // 워머 실행 주기
+    private Duration interval = Duration.ofMinutes(1);
+
+    // 노드에서 모은 요청 수를 Redis에 합산하는 주기
+    private Duration popularityFlushInterval = Duration.ofSeconds(10);
+
+    // 캐시가 만료되기 이 시간 전부터 미리 갱신
+    private Duration refreshAhead = Duration.ofMinutes(2);
+
+    // 최근 요청 기록에서 함께 갱신할 인기 지역/카테고리 수
+    private int popularPairs = 50;
+
+    // 인기 순위를 계산할 최근 시간 구간 수 (1시간 단위)
+    private int popularityWindowHours = 3;
+
+    // 요약 서버에 보내는 갱신 요청의 초당 상한
+    private double maxRefreshesPerSecond = 2;
+
+    // 갱신 요청 사이의 최소 간격 위에 더하는 무작위 지연의 최대값
+    private Duration jitter = Duration.ofMillis(500);
+
+    // 항상 갱신할 지역/카테고리 목록
+    private List<Pair> pairs = new ArrayList<>();
+
+    // 0 이하이면 갱신 간격을 계산할 수 없으므로 바인딩할 때 거부
+    public void setMaxRefreshesPerSecond(double maxRefreshesPerSecond) {
+        if (!(maxRefreshesPerSecond > 0)) {
+            throw new IllegalArgumentException("news.map.warmer.max-refreshes-per-second must be positive");
+        }
+        this.maxRefreshesPerSecond = maxRefreshesPerSecond;
+    }
+
+    public void setJitter(Duration jitter) {
+        if (jitter == null || jitter.isNegative()) {
+            throw new IllegalArgumentException("news.map.warmer.jitter must not be negative");
+        }
+        this.jitter = jitter;
+    }
+
+    @Getter
+    @Setter
+    public static class Pair {
+        private String region;
+        private String category;
+    }
+}
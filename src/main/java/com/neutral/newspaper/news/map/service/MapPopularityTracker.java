@@ -0,0 +1,120 @@
+package com.neutral.newspaper.news.map.service;
+
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 지역/카테고리별 요청 수를 집계해서 워머가 인기 조합을 미리 갱신할 수 있도록 함
+// 요청마다 Redis에 쓰지 않고 노드 내부에서 모았다가 주기적으로 1시간 단위 sorted set에 합산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapPopularityTracker {
+
+    private static final String KEY_PREFIX = "news:map:popularity:";
+
+    // 정규화한 조합 → 요청에 들어온 원래 지역/카테고리, 인기 순위와 같은 1시간 단위
+    private static final String NAMES_PREFIX = "news:map:popularity:names:";
+    private static final String DELIMITER = "|";
+    private static final DateTimeFormatter HOUR_BUCKET = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final long BUCKET_RETENTION_HOURS = 24;
+    private static final int MAX_PENDING_MEMBERS = 10_000;
+
+    private final RedisService redisService;
+
+    private final ConcurrentHashMap<String, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+
+    public void record(String region, String category) {
+        String member = member(region, category);
+        PendingCount pending = pendingCounts.get(member);
+        if (pending == null) {
+            // 요청 파라미터로 만들어지는 키이므로 한 주기 동안 모을 수 있는 조합 수를 제한
+            if (pendingCounts.size() >= MAX_PENDING_MEMBERS) {
+                return;
+            }
+            pending = pendingCounts.computeIfAbsent(member,
+                    key -> new PendingCount(region + DELIMITER + category, new LongAdder()));
+        }
+        pending.count().increment();
+    }
+
+    // 합산한 항목은 맵에서 제거해서 한 번 요청된 조합이 계속 남아 있지 않도록 함
+    // 제거 직후 이전 카운터에 더해진 요청은 집계에서 빠질 수 있음 (인기 순위 용도라 허용)
+    @Scheduled(fixedDelayString = "${news.map.warmer.popularity-flush-interval:PT10S}")
+    public void flush() {
+        String hour = LocalDateTime.now().format(HOUR_BUCKET);
+        String bucketKey = KEY_PREFIX + hour;
+        Map<String, String> originals = new HashMap<>();
+        for (String member : pendingCounts.keySet()) {
+            PendingCount pending = pendingCounts.remove(member);
+            if (pending == null) {
+                continue;
+            }
+            long count = pending.count().sum();
+            if (count == 0) {
+                continue;
+            }
+            try {
+                redisService.incrementScore(bucketKey, member, count, BUCKET_RETENTION_HOURS, TimeUnit.HOURS);
+                originals.put(member, pending.original());
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush map popularity. member={}", member, e);
+            }
+        }
+
+        if (originals.isEmpty()) {
+            return;
+        }
+        try {
+            redisService.saveHash(NAMES_PREFIX + hour, originals, BUCKET_RETENTION_HOURS, TimeUnit.HOURS);
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush map popularity names. count={}", originals.size(), e);
+        }
+    }
+
+    // 최근 windowHours 시간 동안 요청이 많았던 지역/카테고리, 요청 수가 많은 순서
+    // 집계는 정규화한 값으로 하고, 반환할 때는 요청에 들어온 원래 값을 사용
+    public List<String[]> topPairs(int count, int windowHours) {
+        Map<String, Double> scores = new HashMap<>();
+        List<String> nameKeys = new ArrayList<>(windowHours);
+        LocalDateTime now = LocalDateTime.now();
+        for (int hour = 0; hour < windowHours; hour++) {
+            String bucket = now.minusHours(hour).format(HOUR_BUCKET);
+            redisService.getTopScores(KEY_PREFIX + bucket, count)
+                    .forEach((member, score) -> scores.merge(member, score, Double::sum));
+            nameKeys.add(NAMES_PREFIX + bucket);
+        }
+
+        // 같은 조합이 여러 구간에 있으면 최근 구간의 표기를 사용
+        Map<String, String> originals = new HashMap<>();
+        redisService.getHashEntries(nameKeys).forEach(names -> names.forEach(originals::putIfAbsent));
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(count)
+                .map(entry -> originals.getOrDefault(entry.getKey(), entry.getKey()).split("\\" + DELIMITER, 2))
+                .filter(pair -> pair.length == 2)
+                .toList();
+    }
+
+    // 캐시 키와 같은 규칙으로 정규화해서 표기만 다른 요청이 같은 조합으로 집계되도록 함
+    private String member(String region, String category) {
+        return NewsCacheKey.normalize(region) + DELIMITER + NewsCacheKey.normalize(category);
+    }
+
+    private record PendingCount(String original, LongAdder count) {
+    }
+}
@@ -1,5 +1,10 @@
 package com.neutral.newspaper.news.map.service;
 
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
 import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,16 +16,42 @@ import org.springframework.web.client.RestTemplate;
 public class MapService {
 
     private final RestTemplate restTemplate;
+    private final NewsCacheService newsCacheService;
+    private final NewsCacheProperties newsCacheProperties;
+    private final NewsBackendGuard newsBackendGuard;
+    private final MapPopularityTracker mapPopularityTracker;
 
-    public SearchRegionNewsResponseDto findRegionNews(String region, String category) {
+    // 캐시 미스 상황에서 요약 서버가 불안정하면 마지막으로 성공한 응답으로 대체
+    // GET 응답의 ETag와 Cache-Control을 만들 수 있도록 캐시 정보와 함께 반환
+    public Cached<SearchRegionNewsResponseDto> findRegionNews(String region, String category) {
+        String cacheKey = NewsCacheKey.of("map", region, category);
+        mapPopularityTracker.record(region, category);
+
+        return newsCacheService.getOrLoadCached(cacheKey, SearchRegionNewsResponseDto.class,
+                newsCacheProperties.getMap(), () -> fetchRegionNews(region, category));
+    }
+
+    // 캐시가 ttl 안에 머물러 있는 남은 시간(ms), 캐시가 없으면 음수
+    public long remainingFreshMillis(String region, String category) {
+        return newsCacheService.remainingFreshMillis(NewsCacheKey.of("map", region, category), newsCacheProperties.getMap());
+    }
+
+    // 캐시가 만료되기 전에 미리 요약 서버에서 다시 가져옴
+    public void warmRegionNews(String region, String category) {
+        newsCacheService.refresh(NewsCacheKey.of("map", region, category), newsCacheProperties.getMap(),
+                () -> fetchRegionNews(region, category));
+    }
+
+    private SearchRegionNewsResponseDto fetchRegionNews(String region, String category) {
         String url = "http://localhost:5000/search_news?region={region}&category={category}";
 
-        ResponseEntity<SearchRegionNewsResponseDto> response = restTemplate.getForEntity(
-                url,
-                SearchRegionNewsResponseDto.class,
-                region,
-                category
-        );
+        ResponseEntity<SearchRegionNewsResponseDto> response = newsBackendGuard.call(NewsBackendGuard.MAP_BACKEND, () ->
+                restTemplate.getForEntity(
+                        url,
+                        SearchRegionNewsResponseDto.class,
+                        region,
+                        category
+                ));
 
         return response.getBody();
     }
@@ -0,0 +1,45 @@
+package com.neutral.newspaper.news.map.service;
+
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveMapService {
+
+    private final WebClient newsWebClient;
+    private final NewsCacheService newsCacheService;
+    private final NewsCacheProperties newsCacheProperties;
+    private final NewsBackendGuard newsBackendGuard;
+
+    // /map과 같은 캐시를 사용, 캐시 미스에서 요약 서버가 불안정하면 마지막으로 성공한 응답으로 대체
+    public Mono<SearchRegionNewsResponseDto> findRegionNews(String region, String category) {
+        return newsCacheService.getOrLoadReactive(NewsCacheKey.of("map", region, category),
+                SearchRegionNewsResponseDto.class, newsCacheProperties.getMap(), fetchRegionNews(region, category));
+    }
+
+    // 기사 목록을 하나씩 흘려보내서 클라이언트가 읽는 속도에 맞춰 전송
+    public Flux<NewsInfoDto> streamRegionNews(String region, String category) {
+        return findRegionNews(region, category)
+                .flatMapIterable(response -> response.getNews() == null ? List.of() : response.getNews());
+    }
+
+    private Mono<SearchRegionNewsResponseDto> fetchRegionNews(String region, String category) {
+        String url = "http://localhost:5000/search_news?region={region}&category={category}";
+
+        return newsBackendGuard.callReactive(NewsBackendGuard.MAP_BACKEND, newsWebClient.get()
+                .uri(url, region, category)
+                .retrieve()
+                .bodyToMono(SearchRegionNewsResponseDto.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.neutral.newspaper.news.sentiment;
+
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer;
+import com.neutral.newspaper.news.sentiment.domain.SentimentBackfillResponseDto;
+import com.neutral.newspaper.news.sentiment.domain.SentimentTrendDto;
+import com.neutral.newspaper.news.sentiment.service.SentimentAggregateService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sentiment")
+@RequiredArgsConstructor
+public class SentimentController {
+
+    private final SentimentAggregateService sentimentAggregateService;
+    private final TopicCanonicalizer topicCanonicalizer;
+
+    // 토픽의 일별 감정 분포, 기간을 지정하지 않으면 최근 7일
+    @GetMapping
+    public ResponseEntity<SentimentTrendDto> getSentimentTrend(
+            @RequestParam String topic,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(6) : from;
+        String topicKey = topicCanonicalizer.canonicalize(topic).key();
+        return ResponseEntity.ok(sentimentAggregateService.getTrend(topicKey, start, end));
+    }
+
+    // 저장된 기사로 토픽의 감정 집계를 다시 채움
+    @PostMapping("/backfill")
+    public ResponseEntity<SentimentBackfillResponseDto> backfillSentiment(@RequestParam String topic) {
+        String topicKey = topicCanonicalizer.canonicalize(topic).key();
+        int recorded = sentimentAggregateService.backfill(topicKey);
+        return ResponseEntity.ok(new SentimentBackfillResponseDto(topicKey, recorded));
+    }
+}
@@ -0,0 +1,19 @@
+package com.neutral.newspaper.news.sentiment.domain;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySentimentDto {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd")
+    private LocalDate date;
+
+    // 감정 → 기사 수
+    private Map<String, Long> counts;
+}
@@ -0,0 +1,15 @@
+package com.neutral.newspaper.news.sentiment.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentBackfillResponseDto {
+    private String topic;
+
+    // 이번 백필로 새로 집계된 기사 수
+    private int recorded;
+}
@@ -0,0 +1,14 @@
+package com.neutral.newspaper.news.sentiment.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentTrendDto {
+    private String topic;
+    private List<DailySentimentDto> days;
+}
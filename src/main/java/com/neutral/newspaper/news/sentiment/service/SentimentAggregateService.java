@@ -0,0 +1,136 @@
+package com.neutral.newspaper.news.sentiment.service;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.article.ArticleRepository;
+import com.neutral.newspaper.news.article.domain.Article;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.sentiment.domain.DailySentimentDto;
+import com.neutral.newspaper.news.sentiment.domain.SentimentTrendDto;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+// 토픽별, 일별 감정 분포를 기사 저장 시점에 Redis 해시로 누적
+// 조회는 기사 수와 관계없이 일 수만큼의 해시만 읽음
+@Service
+@RequiredArgsConstructor
+public class SentimentAggregateService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String UNKNOWN_SENTIMENT = "unknown";
+    private static final int BATCH_SIZE = 100;
+
+    // 처음 보는 기사(URL 해시)만 해당 날짜의 감정 카운터를 올림, 기사 목록 한 번에 왕복 한 번
+    // 중복 확인용 기사 목록도 일별로 나누고, 두 키 모두 날짜로 정해진 시각에 만료되어 집계할 때마다 연장되지 않음
+    // KEYS[2i-1], KEYS[2i]: i번째 기사의 일별 기사 목록과 일별 해시
+    // ARGV[3i-2], ARGV[3i-1], ARGV[3i]: i번째 기사의 URL 해시, 감정, 만료 시각(epoch ms)
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            local added = 0
+            for i = 1, #KEYS / 2 do
+              if redis.call('SADD', KEYS[2 * i - 1], ARGV[3 * i - 2]) == 1 then
+                redis.call('HINCRBY', KEYS[2 * i], ARGV[3 * i - 1], 1)
+                redis.call('PEXPIREAT', KEYS[2 * i - 1], ARGV[3 * i])
+                redis.call('PEXPIREAT', KEYS[2 * i], ARGV[3 * i])
+                added = added + 1
+              end
+            end
+            return added
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final ArticleRepository articleRepository;
+    private final SentimentProperties sentimentProperties;
+
+    // topic은 정규화된 토픽 키, 이미 집계한 기사는 다시 세지 않으므로 여러 번 호출해도 안전
+    public int record(String topic, List<NewsSummaryDto> news) {
+        int added = 0;
+        List<String> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (NewsSummaryDto summary : news) {
+            if (summary.getUrl() == null) {
+                continue;
+            }
+            LocalDate day = summary.getDate() == null ? LocalDate.now() : summary.getDate();
+            keys.add(seenKey(topic, day));
+            keys.add(dayKey(topic, day));
+            args.add(Article.hashUrl(summary.getUrl()));
+            args.add(summary.getSentiment() == null ? UNKNOWN_SENTIMENT : summary.getSentiment());
+            args.add(String.valueOf(expireAt(day)));
+            if (args.size() == BATCH_SIZE * 3) {
+                added += execute(keys, args);
+                keys.clear();
+                args.clear();
+            }
+        }
+        if (!keys.isEmpty()) {
+            added += execute(keys, args);
+        }
+        return added;
+    }
+
+    public SentimentTrendDto getTrend(String topic, LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > sentimentProperties.getMaxDays()) {
+            throw new CustomException(ErrorType.INVALID_SENTIMENT_RANGE);
+        }
+
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+        List<Map<String, String>> entries = redisService.getHashEntries(dates.stream()
+                .map(date -> dayKey(topic, date))
+                .toList());
+
+        List<DailySentimentDto> result = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            Map<String, Long> counts = new TreeMap<>();
+            entries.get(i).forEach((sentiment, count) -> counts.put(sentiment, Long.parseLong(count)));
+            result.add(new DailySentimentDto(dates.get(i), counts));
+        }
+        return new SentimentTrendDto(topic, result);
+    }
+
+    // 집계 도입 이전에 저장된 기사를 토픽 단위로 다시 집계
+    public int backfill(String topic) {
+        int added = 0;
+        long lastId = Long.MAX_VALUE;
+        List<Article> page = articleRepository.findByTopicBefore(topic, lastId, PageRequest.of(0, BATCH_SIZE));
+        while (!page.isEmpty()) {
+            added += record(topic, page.stream().map(Article::toNewsSummary).toList());
+            lastId = page.get(page.size() - 1).getArticleId();
+            page = articleRepository.findByTopicBefore(topic, lastId, PageRequest.of(0, BATCH_SIZE));
+        }
+        return added;
+    }
+
+    private int execute(List<String> keys, List<Object> args) {
+        Long added = redisService.executeScript(RECORD_SCRIPT, keys, args.toArray());
+        return added == null ? 0 : added.intValue();
+    }
+
+    // 해당 날짜가 시작된 뒤 보관 기간이 지나면 만료
+    private long expireAt(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault())
+                .plus(sentimentProperties.getRetention())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    // 같은 토픽의 key는 같은 해시 슬롯에 두어 Redis Cluster에서도 스크립트를 실행할 수 있도록 함
+    private String dayKey(String topic, LocalDate day) {
+        return "news:sentiment:{" + topic + "}:" + day.format(DAY_FORMAT);
+    }
+
+    private String seenKey(String topic, LocalDate day) {
+        return dayKey(topic, day) + ":seen";
+    }
+}
@@ -0,0 +1,18 @@
+package com.neutral.newspaper.news.sentiment.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.sentiment")
+public class SentimentProperties {
+
+    // 일별 집계와 중복 확인용 기사 목록의 보관 기간
+    private Duration retention = Duration.ofDays(400);
+
+    // 한 번에 조회할 수 있는 최대 일 수
+    private int maxDays = 366;
+}
@@ -0,0 +1,103 @@
+package com.neutral.newspaper.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.global.ErrorResponse;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.ratelimit.RateLimitProperties.Rule;
+import com.neutral.newspaper.ratelimit.RedisRateLimiter.Decision;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+// JwtAuthenticationFilter 다음에 실행되어 인증된 회원(없으면 IP) 단위로 요청 수를 제한
+// 한도를 넘은 요청은 요약 서버 호출 없이 바로 429로 응답
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledRule> rules = new ArrayList<>();
+
+    public RateLimitFilter(RedisRateLimiter redisRateLimiter, RateLimitProperties properties,
+                           ObjectMapper objectMapper) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (Rule rule : properties.getRules()) {
+            List<PathPattern> patterns = rule.getPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            rules.add(new CompiledRule(rule, patterns));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = match(request);
+        if (rule != null) {
+            Decision decision = redisRateLimiter.tryAcquire(rule, client(request));
+            if (!decision.allowed()) {
+                reject(response, decision.retryAfterMillis());
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Rule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRule compiled : rules) {
+            for (PathPattern pattern : compiled.patterns()) {
+                if (pattern.matches(path)) {
+                    return compiled.rule();
+                }
+            }
+        }
+        return null;
+    }
+
+    private String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "member:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        ErrorType errorType = ErrorType.RATE_LIMIT_EXCEEDED;
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+
+        response.setStatus(errorType.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(errorType.getCode(), errorType.getMessage()));
+    }
+
+    private record CompiledRule(Rule rule, List<PathPattern> patterns) {
+    }
+}
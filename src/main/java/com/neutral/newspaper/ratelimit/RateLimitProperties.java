@@ -0,0 +1,50 @@
+package com.neutral.newspaper.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 요청 경로별 토큰 버킷 설정, 먼저 일치하는 규칙 하나만 적용
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        // Redis key와 메트릭에 사용하는 이름
+        private String name;
+
+        // 규칙을 적용할 경로 패턴, 예) /keyword/**
+        private List<String> paths = new ArrayList<>();
+
+        // 한 번에 허용하는 최대 요청 수 (버킷 크기)
+        private int capacity;
+
+        // 초당 다시 채워지는 요청 수
+        private double refillPerSecond;
+
+        // 버킷이 비어 있으면 요청을 하나도 허용할 수 없으므로 바인딩할 때 거부
+        public void setCapacity(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("news.rate-limit.rules[].capacity must be at least 1");
+            }
+            this.capacity = capacity;
+        }
+
+        // 0 이하이면 토큰이 채워지지 않고 재시도 시간을 계산할 수 없으므로 바인딩할 때 거부
+        public void setRefillPerSecond(double refillPerSecond) {
+            if (!(refillPerSecond > 0)) {
+                throw new IllegalArgumentException("news.rate-limit.rules[].refill-per-second must be positive");
+            }
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.neutral.newspaper.ratelimit;
+
+import com.neutral.newspaper.ratelimit.RateLimitProperties.Rule;
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Redis 토큰 버킷, 확인과 차감을 Lua 스크립트 한 번(왕복 한 번)으로 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    // 노드마다 시계가 다를 수 있으므로 Redis 서버 시간(TIME)을 기준으로 토큰을 채움
+    // ARGV[1]: 버킷 크기, ARGV[2]: ms당 채워지는 토큰 수
+    // 반환: {허용 여부(1/0), 다시 시도할 수 있을 때까지 남은 ms}
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              retry = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+            return {allowed, retry}
+            """, List.class);
+
+    private static final String KEY_PREFIX = "news:rate:";
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+
+    public Decision tryAcquire(Rule rule, String client) {
+        String key = KEY_PREFIX + rule.getName() + ":" + client;
+        double refillPerMillis = rule.getRefillPerSecond() / 1000.0;
+
+        try {
+            List<?> result = redisService.executeScript(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(rule.getCapacity()), String.valueOf(refillPerMillis));
+            boolean allowed = result != null && ((Number) result.get(0)).longValue() == 1;
+            long retryAfterMillis = result == null ? 0 : ((Number) result.get(1)).longValue();
+            record(rule, allowed ? "allowed" : "rejected");
+            return new Decision(allowed, retryAfterMillis);
+        } catch (DataAccessException e) {
+            // Redis 장애로 모든 요청이 막히지 않도록 허용
+            log.warn("Failed to check rate limit. key={}", key, e);
+            record(rule, "error");
+            return new Decision(true, 0);
+        }
+    }
+
+    private void record(Rule rule, String result) {
+        meterRegistry.counter("news.ratelimit.requests", "rule", rule.getName(), "result", result).increment();
+    }
+
+    public record Decision(boolean allowed, long retryAfterMillis) {
+    }
+}
@@ -1,19 +1,39 @@
 package com.neutral.newspaper.redis;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
+
+    // 값이 일치할 때만 삭제 (다른 노드가 새로 얻은 락을 지우지 않도록 함)
+    private static final RedisScript<Long> DELETE_IF_MATCHES_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public void saveData(String key, String value, long timeout, TimeUnit unit) {
         redisTemplate.opsForValue().set(key, value, timeout, unit);
     }
 
+    // key가 없을 때만 저장하고 저장 여부를 반환 (분산 락 용도)
+    public boolean saveDataIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeout, unit));
+    }
+
     public String getData(String key) {
         return redisTemplate.opsForValue().get(key);
     }
@@ -21,4 +41,81 @@ public class RedisService {
     public void deleteData(String key) {
         redisTemplate.delete(key);
     }
+
+    // 남은 만료 시간(ms), key가 없으면 -2, 만료 시간이 없으면 -1
+    public long getExpireMillis(String key) {
+        Long expire = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        return expire == null ? -2 : expire;
+    }
+
+    // 해시 필드를 한 번에 저장하고 key의 만료 시간을 설정
+    public void saveHash(String key, Map<String, String> fields, long timeout, TimeUnit unit) {
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, timeout, unit);
+    }
+
+    // 정렬된 집합(sorted set)의 점수를 더하고 key의 만료 시간을 갱신
+    public void incrementScore(String key, String member, double delta, long timeout, TimeUnit unit) {
+        redisTemplate.opsForZSet().incrementScore(key, member, delta);
+        redisTemplate.expire(key, timeout, unit);
+    }
+
+    // 정렬된 집합의 점수를 저장하고 key의 만료 시간을 갱신
+    public void addScore(String key, String member, double score, long timeout, TimeUnit unit) {
+        redisTemplate.opsForZSet().add(key, member, score);
+        redisTemplate.expire(key, timeout, unit);
+    }
+
+    // 점수가 높은 순서로 count개를 반환
+    public Map<String, Double> getTopScores(String key, int count) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> scores.put(tuple.getValue(), tuple.getScore()));
+        }
+        return scores;
+    }
+
+    public void addScore(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    // 점수가 minScore 이상인 멤버를 반환
+    public Set<String> getMembersFromScore(String key, double minScore) {
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, minScore, Double.POSITIVE_INFINITY);
+        return members == null ? Set.of() : members;
+    }
+
+    // 점수가 maxScore 이하인 멤버를 삭제
+    public void removeByMaxScore(String key, double maxScore) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore);
+    }
+
+    // 모든 노드에 메시지 전달 (pub/sub)
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public boolean deleteDataIfMatches(String key, String value) {
+        Long deleted = redisTemplate.execute(DELETE_IF_MATCHES_SCRIPT, List.of(key), value);
+        return deleted != null && deleted > 0;
+    }
+
+    // 여러 명령을 원자적으로 실행해야 할 때 Lua 스크립트를 한 번의 왕복으로 실행
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
+    // 여러 해시를 파이프라인으로 한 번에 조회, 없는 key는 빈 Map
+    @SuppressWarnings("unchecked")
+    public List<Map<String, String>> getHashEntries(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(stringConnection::hGetAll);
+            return null;
+        });
+        List<Map<String, String>> entries = new ArrayList<>(results.size());
+        results.forEach(result -> entries.add(result == null ? Map.of() : (Map<String, String>) result));
+        return entries;
+    }
 }
@@ -0,0 +1,96 @@
+package com.neutral.newspaper.interest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.neutral.newspaper.interest.domain.Interest;
+import com.neutral.newspaper.interest.service.InterestService;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestServiceTest {
+
+    @Mock
+    private InterestRepository interestRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InterestService interestService;
+
+    @BeforeEach
+    void setUp() {
+        interestService = new InterestService(interestRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("모두 저장된 관심사는 한 번의 조회로 요청 순서대로 반환")
+    void resolveExisting() {
+        // given
+        given(interestRepository.findByNameIn(Set.of("경제", "스포츠")))
+                .willReturn(List.of(new Interest("스포츠"), new Interest("경제")));
+
+        // when
+        List<Interest> interests = interestService.resolveAll(List.of("경제", "스포츠", "경제"));
+
+        // then
+        assertThat(interests).extracting("name").containsExactly("경제", "스포츠");
+        then(interestRepository).should(never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("없는 관심사만 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void insertMissing() {
+        // given
+        given(interestRepository.findByNameIn(Set.of("경제", "스포츠", "과학")))
+                .willReturn(List.of(new Interest("경제")));
+        given(interestRepository.findByNameIn(List.of("스포츠", "과학")))
+                .willReturn(List.of());
+
+        // when
+        List<Interest> interests = interestService.resolveAll(List.of("경제", "스포츠", "과학"));
+
+        // then
+        ArgumentCaptor<List<Interest>> created = ArgumentCaptor.forClass(List.class);
+        then(interestRepository).should().saveAllAndFlush(created.capture());
+        assertThat(created.getValue()).extracting("name").containsExactly("스포츠", "과학");
+        assertThat(interests).extracting("name").containsExactly("경제", "스포츠", "과학");
+    }
+
+    @Test
+    @DisplayName("다른 가입 요청이 먼저 저장한 관심사는 새 트랜잭션에서 다시 조회해서 사용")
+    void reuseConcurrentlyCreated() {
+        // given
+        given(interestRepository.findByNameIn(Set.of("경제", "스포츠")))
+                .willReturn(List.of());
+        given(interestRepository.findByNameIn(List.of("경제", "스포츠")))
+                .willReturn(List.of())
+                .willReturn(List.of(new Interest("경제")));
+        given(interestRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_interests_name"))
+                .willReturn(List.of());
+
+        // when
+        List<Interest> interests = interestService.resolveAll(List.of("경제", "스포츠"));
+
+        // then
+        assertThat(interests).extracting("name").containsExactly("경제", "스포츠");
+        then(transactionManager).should().rollback(any());
+    }
+}
@@ -0,0 +1,155 @@
+package com.neutral.newspaper.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class JwtTokenProviderTest {
+
+    private static final byte[] SECRET = "neutral-newspaper-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            Base64.getEncoder().encodeToString(SECRET), Duration.ofMinutes(30), 100, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("액세스 토큰은 설정한 유효 기간 뒤에 만료")
+    void accessTokenValidity() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        JwtToken token = jwtTokenProvider.generateToken("test@test.com", "", "family", "token-1");
+
+        // then
+        JwtTokenDetails details = (JwtTokenDetails) jwtTokenProvider.authenticate(token.getAccessToken())
+                .orElseThrow().getDetails();
+        assertThat(details.expiresAt()).isBetween(before + Duration.ofMinutes(29).toMillis(),
+                System.currentTimeMillis() + Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 유효 기간은 리프레시 토큰보다 짧아야 함")
+    void rejectLongAccessTokenValidity() {
+        assertThatThrownBy(() -> new JwtTokenProvider(Base64.getEncoder().encodeToString(SECRET),
+                JwtTokenProvider.REFRESH_TOKEN_VALIDITY, 100, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("권한이 없는 회원의 토큰도 인증 정보로 변환")
+    void authenticateWithoutAuthorities() {
+        // given
+        String token = accessToken(List.of());
+
+        // when
+        Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo("test@test.com");
+        assertThat(authentication.get().getAuthorities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 검증한 토큰은 다시 파싱하지 않고 같은 인증 정보를 반환")
+    void cachedAuthentication() {
+        // given
+        String token = accessToken(List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // when
+        Authentication first = jwtTokenProvider.authenticate(token).orElseThrow();
+        Authentication second = jwtTokenProvider.authenticate(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("같은 권한 조합은 권한 목록을 공유")
+    void internedAuthorities() {
+        // given
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        String first = accessToken(authorities);
+        String second = Jwts.builder()
+                .setSubject("other@test.com")
+                .claim("auth", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        GrantedAuthority firstAuthority = jwtTokenProvider.authenticate(first).orElseThrow()
+                .getAuthorities().iterator().next();
+        GrantedAuthority secondAuthority = jwtTokenProvider.authenticate(second).orElseThrow()
+                .getAuthorities().iterator().next();
+
+        // then
+        assertThat(secondAuthority).isSameAs(firstAuthority);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 인증하지 않음")
+    void rejectTamperedToken() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("test@test.com")
+                .claim("auth", "ROLE_ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-signing-0123456789".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThat(jwtTokenProvider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 인증하지 않음")
+    void rejectExpiredToken() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("test@test.com")
+                .claim("auth", "")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThat(jwtTokenProvider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 액세스 토큰으로 사용할 수 없음")
+    void refreshTokenIsNotAccessToken() {
+        // given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test@test.com", "", List.of());
+        String refreshToken = jwtTokenProvider.generateToken(authentication, "family", "token-id").getRefreshToken();
+
+        // when & then
+        assertThat(jwtTokenProvider.authenticate(refreshToken)).isEmpty();
+        assertThat(jwtTokenProvider.parseRefreshToken(refreshToken))
+                .contains(new JwtTokenProvider.RefreshClaims("test@test.com", "family", "token-id"));
+    }
+
+    private String accessToken(List<SimpleGrantedAuthority> authorities) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test@test.com", "", authorities);
+        return jwtTokenProvider.generateToken(authentication, "family", "token-id").getAccessToken();
+    }
+}
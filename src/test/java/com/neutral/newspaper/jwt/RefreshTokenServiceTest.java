@@ -0,0 +1,172 @@
+package com.neutral.newspaper.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "neutral-newspaper-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET, Duration.ofMinutes(30), 100, new SimpleMeterRegistry());
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(jwtTokenProvider, redisService, tokenRevocationService,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("로그인 시 토큰 묶음을 Redis에 저장하고 subject가 있는 리프레시 토큰을 발급")
+    @SuppressWarnings("unchecked")
+    void issue() {
+        // when
+        JwtToken token = refreshTokenService.issue(
+                new UsernamePasswordAuthenticationToken("test@test.com", "", List.of()));
+
+        // then
+        JwtTokenProvider.RefreshClaims claims = jwtTokenProvider.parseRefreshToken(token.getRefreshToken()).orElseThrow();
+        assertThat(claims.subject()).isEqualTo("test@test.com");
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        then(redisService).should().saveHash(eq("jwt:refresh:" + claims.family()), fields.capture(),
+                anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertThat(fields.getValue()).containsEntry("jti", claims.tokenId()).containsEntry("sub", "test@test.com");
+        then(redisService).should().addScore(eq("jwt:refresh:member:test@test.com"), eq(claims.family()),
+                anyDouble(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 사용 시 같은 묶음의 새 토큰으로 교체")
+    void rotate() {
+        // given
+        String refreshToken = jwtTokenProvider.generateToken("test@test.com", "", "family", "token-1").getRefreshToken();
+        given(redisService.executeScript(any(), eq(List.of("jwt:refresh:family")), any(Object[].class)))
+                .willReturn(List.of("rotated", ""));
+
+        // when
+        JwtToken token = refreshTokenService.rotate(refreshToken);
+
+        // then
+        JwtTokenProvider.RefreshClaims claims = jwtTokenProvider.parseRefreshToken(token.getRefreshToken()).orElseThrow();
+        assertThat(claims.family()).isEqualTo("family");
+        assertThat(claims.tokenId()).isNotEqualTo("token-1");
+        assertThat(jwtTokenProvider.authenticate(token.getAccessToken()).orElseThrow().getName())
+                .isEqualTo("test@test.com");
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰을 다시 쓰면 재사용으로 거부하고 같은 묶음의 액세스 토큰도 폐기")
+    void rejectReusedToken() {
+        // given
+        String refreshToken = jwtTokenProvider.generateToken("test@test.com", "", "family", "token-1").getRefreshToken();
+        given(redisService.executeScript(any(), anyList(), any(Object[].class))).willReturn(List.of("reused"));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.REUSED_REFRESH_TOKEN);
+        then(tokenRevocationService).should().revokeFamily(eq("family"), anyLong());
+    }
+
+    @Test
+    @DisplayName("방금 교체된 리프레시 토큰이 grace 안에 다시 들어오면 현재 토큰 id로 다시 발급")
+    void reissueWithinGrace() {
+        // given
+        String refreshToken = jwtTokenProvider.generateToken("test@test.com", "", "family", "token-1").getRefreshToken();
+        given(redisService.executeScript(any(), eq(List.of("jwt:refresh:family")), any(Object[].class)))
+                .willReturn(List.of("grace", "", "token-2"));
+
+        // when
+        JwtToken token = refreshTokenService.rotate(refreshToken);
+
+        // then
+        JwtTokenProvider.RefreshClaims claims = jwtTokenProvider.parseRefreshToken(token.getRefreshToken()).orElseThrow();
+        assertThat(claims.family()).isEqualTo("family");
+        assertThat(claims.tokenId()).isEqualTo("token-2");
+        then(tokenRevocationService).should(never()).revokeFamily(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("비밀번호를 바꾸면 회원의 모든 토큰 묶음을 폐기")
+    void revokeAll() {
+        // given
+        given(redisService.getMembersFromScore(eq("jwt:refresh:member:test@test.com"), anyDouble()))
+                .willReturn(Set.of("family-1", "family-2"));
+
+        // when
+        refreshTokenService.revokeAll("test@test.com");
+
+        // then
+        then(redisService).should().deleteData("jwt:refresh:family-1");
+        then(redisService).should().deleteData("jwt:refresh:family-2");
+        then(redisService).should().deleteData("jwt:refresh:member:test@test.com");
+        then(tokenRevocationService).should().revokeFamily(eq("family-1"), anyLong());
+        then(tokenRevocationService).should().revokeFamily(eq("family-2"), anyLong());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 토큰 묶음의 리프레시 토큰과 액세스 토큰을 모두 폐기")
+    void revokeFamily() {
+        // when
+        refreshTokenService.revokeFamily("family");
+
+        // then
+        then(redisService).should().deleteData("jwt:refresh:family");
+        then(tokenRevocationService).should().revokeFamily(eq("family"), anyLong());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰으로는 재발급할 수 없음")
+    void rejectAccessToken() {
+        // given
+        String accessToken = jwtTokenProvider.generateToken("test@test.com", "", "family", "token-1").getAccessToken();
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(accessToken))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_REFRESH_TOKEN);
+        then(redisService).should(never()).executeScript(any(), anyList(), any(Object[].class));
+    }
+}
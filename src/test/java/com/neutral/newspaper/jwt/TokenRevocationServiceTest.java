@@ -0,0 +1,116 @@
+package com.neutral.newspaper.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(redisService, new SimpleMeterRegistry(), 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 Redis를 조회하지 않음")
+    void skipRedisOnBloomMiss() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(authentication("token-1"));
+
+        // then
+        assertThat(revoked).isFalse();
+        then(redisService).should(never()).getData(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각까지 Redis에 저장하고 다른 노드에 알림")
+    void revoke() {
+        // given
+        Authentication authentication = authentication("token-1");
+        given(redisService.getData("jwt:revoked:token-1")).willReturn("1");
+
+        // when
+        tokenRevocationService.revoke(authentication);
+
+        // then
+        then(redisService).should().saveData(eq("jwt:revoked:token-1"), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        then(redisService).should().publish(TokenRevocationService.REVOCATION_CHANNEL, "token-1");
+        assertThat(tokenRevocationService.isRevoked(authentication)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 블룸 필터에 추가된 뒤 Redis로 확인")
+    void handleRevocationFromOtherNode() {
+        // given
+        given(redisService.getData("jwt:revoked:token-2")).willReturn("1");
+
+        // when
+        tokenRevocationService.handleRevocation("token-2");
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(authentication("token-2"))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(authentication("token-3"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 시 Redis의 폐기 목록으로 블룸 필터를 다시 만듦")
+    void rebuild() {
+        // given
+        given(redisService.getMembersFromScore(eq("jwt:revoked"), anyDouble())).willReturn(Set.of("token-4"));
+        given(redisService.getData("jwt:revoked:token-4")).willReturn("1");
+
+        // when
+        tokenRevocationService.rebuild();
+
+        // then
+        then(redisService).should().removeByMaxScore(eq("jwt:revoked"), anyDouble());
+        assertThat(tokenRevocationService.isRevoked(authentication("token-4"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 묶음을 폐기하면 같은 묶음의 다른 액세스 토큰도 거부")
+    void revokeFamily() {
+        // given
+        given(redisService.getData("jwt:revoked:fam:family")).willReturn("1");
+
+        // when
+        tokenRevocationService.revokeFamily("family", System.currentTimeMillis() + 60_000);
+
+        // then
+        then(redisService).should().saveData(eq("jwt:revoked:fam:family"), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        then(redisService).should().publish(TokenRevocationService.REVOCATION_CHANNEL, "fam:family");
+        assertThat(tokenRevocationService.isRevoked(authentication("token-5"))).isTrue();
+    }
+
+    private Authentication authentication(String tokenId) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("test@test.com", "", List.of());
+        authentication.setDetails(new JwtTokenDetails(tokenId, "family", System.currentTimeMillis() + 60_000));
+        return authentication;
+    }
+}
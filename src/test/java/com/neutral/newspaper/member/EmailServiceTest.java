@@ -0,0 +1,56 @@
+package com.neutral.newspaper.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.member.service.EmailService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailServiceTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Test
+    @DisplayName("인증번호 메일을 요청 스레드에서 바로 전송")
+    void sendVerificationCode() {
+        // given
+        EmailService emailService = new EmailService(mailSender, 2);
+
+        // when
+        emailService.sendVerificationCode("email@example.com", "비밀번호 찾기 인증번호", "비밀번호 초기화 인증번호는 123456");
+
+        // then
+        ArgumentCaptor<SimpleMailMessage> message = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        then(mailSender).should().send(message.capture());
+        assertThat(message.getValue().getTo()).containsExactly("email@example.com");
+    }
+
+    @Test
+    @DisplayName("메일 서버가 전송에 실패하면 성공으로 처리하지 않고 503으로 알림")
+    void failWhenMailSenderThrows() {
+        // given
+        EmailService emailService = new EmailService(mailSender, 2);
+        willThrow(new MailSendException("smtp down")).given(mailSender).send(any(SimpleMailMessage.class));
+
+        // when, then
+        assertThatThrownBy(() -> emailService.sendVerificationCode("email@example.com", "제목", "본문"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.MAIL_SEND_FAILED);
+    }
+}
@@ -14,6 +14,7 @@ import com.neutral.newspaper.member.controller.MemberController;
 import com.neutral.newspaper.member.dto.FindPasswordDto;
 import com.neutral.newspaper.member.dto.JoinRequestDto;
 import com.neutral.newspaper.member.dto.LoginRequestDto;
+import com.neutral.newspaper.member.dto.RefreshTokenRequestDto;
 import com.neutral.newspaper.member.dto.ResetPasswordDto;
 import com.neutral.newspaper.member.dto.UpdatePasswordDto;
 import com.neutral.newspaper.member.dto.VerifyCodeDto;
@@ -73,6 +74,31 @@ public class MemberControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @WithMockUser
+    @Test
+    @DisplayName("토큰 재발급 성공 시 200 반환")
+    void successRefresh() throws Exception {
+        RefreshTokenRequestDto refreshTokenRequest = new RefreshTokenRequestDto("refresh-token");
+        when(memberService.refresh(any())).thenReturn(new JwtToken("Bearer", "new-access-token", "new-refresh-token"));
+
+        mockMvc.perform(post("/member/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshTokenRequest))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("로그아웃 성공 시 204 반환")
+    void successLogout() throws Exception {
+        doNothing().when(memberService).logout();
+
+        mockMvc.perform(post("/member/logout")
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+    }
+
     @WithMockUser
     @Test
     @DisplayName("비밀번호 변경 성공 시 204 반환")
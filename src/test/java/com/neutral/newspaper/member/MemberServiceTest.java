@@ -3,14 +3,20 @@ package com.neutral.newspaper.member;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
 import com.neutral.newspaper.jwt.JwtToken;
+import com.neutral.newspaper.jwt.RefreshTokenService;
 import com.neutral.newspaper.member.domain.Member;
 import com.neutral.newspaper.member.dto.FindPasswordDto;
 import com.neutral.newspaper.member.dto.JoinRequestDto;
@@ -19,7 +25,9 @@ import com.neutral.newspaper.member.dto.ResetPasswordDto;
 import com.neutral.newspaper.member.dto.UpdatePasswordDto;
 import com.neutral.newspaper.member.dto.VerifyCodeDto;
 import com.neutral.newspaper.member.service.EmailService;
+import com.neutral.newspaper.member.service.MemberProperties;
 import com.neutral.newspaper.member.service.MemberService;
+import com.neutral.newspaper.member.service.PasswordHashingService;
 import com.neutral.newspaper.redis.RedisService;
 import java.util.List;
 import java.util.Optional;
@@ -33,9 +41,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -248,6 +256,50 @@ public class MemberServiceTest {
         }
     }
 
+    @ExtendWith(MockitoExtension.class)
+    @DisplayName("비밀번호 재해시 테스트")
+    static class RehashTest {
+
+        @InjectMocks
+        private MemberService memberService;
+
+        @Mock
+        private MemberRepository memberRepository;
+
+        @Mock
+        private PasswordHashingService passwordHashingService;
+
+        @Mock
+        private RefreshTokenService refreshTokenService;
+
+        @Mock
+        private MemberProperties memberProperties;
+
+        @Test
+        @DisplayName("다시 해시한 비밀번호를 저장하지 못해도 로그인은 성공")
+        void loginWhenRehashStoreFails() {
+            // given
+            Member member = Member.builder()
+                    .name("홍길동")
+                    .email("email@example.com")
+                    .password("이전해시")
+                    .phoneNumber("010-1234-5678")
+                    .build();
+            given(memberRepository.findByEmail("email@example.com")).willReturn(Optional.of(member));
+            given(passwordHashingService.matches("TestPassword12!", "이전해시")).willReturn(true);
+            given(passwordHashingService.needsRehash("이전해시")).willReturn(true);
+            given(passwordHashingService.encode("TestPassword12!")).willReturn("새해시");
+            given(memberRepository.updatePasswordByEmail("email@example.com", "새해시"))
+                    .willThrow(new DataAccessResourceFailureException("db down"));
+
+            // when
+            memberService.login(new LoginRequestDto("email@example.com", "TestPassword12!"));
+
+            // then
+            then(refreshTokenService).should().issue(any());
+        }
+    }
+
     // Mockito를 사용하기 위한 확장 선언
     @ExtendWith(MockitoExtension.class)
     @DisplayName("비밀번호 초기화 테스트")
@@ -345,6 +397,32 @@ public class MemberServiceTest {
                     .isInstanceOf(CustomException.class)
                     .hasMessageContaining("휴대폰 번호가 일치하지 않습니다.");
         }
+
+        @Test
+        @DisplayName("인증 코드 전송 실패 케이스: 메일 전송 실패")
+        void failSendPasswordResetCodeMailError() {
+            // given
+            FindPasswordDto findPasswordRequest = new FindPasswordDto(
+                    "email@example.com", "010-1234-5678"
+            );
+            Member member = Member.builder()
+                    .name("홍길동")
+                    .email("email@example.com")
+                    .password("testPassword12!")
+                    .phoneNumber("010-1234-5678")
+                    .build();
+
+            given(memberRepository.findByEmail(findPasswordRequest.getEmail()))
+                    .willReturn(Optional.of(member));
+            willThrow(new CustomException(ErrorType.MAIL_SEND_FAILED))
+                    .given(emailService).sendVerificationCode(anyString(), anyString(), anyString());
+
+            // when, then
+            assertThatThrownBy(() -> memberService.sendPasswordResetCode(findPasswordRequest))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessageContaining("인증번호 메일을 보내지 못했습니다.");
+            then(redisService).should(never()).saveData(anyString(), anyString(), anyLong(), any());
+        }
     }
 
     @ExtendWith(MockitoExtension.class)
@@ -409,7 +487,10 @@ public class MemberServiceTest {
         private MemberRepository memberRepository;
 
         @Mock
-        private BCryptPasswordEncoder passwordEncoder;
+        private PasswordHashingService passwordHashingService;
+
+        @Mock
+        private RefreshTokenService refreshTokenService;
 
         @Test
         @DisplayName("비밀번호 초기화 성공 케이스")
@@ -429,7 +510,7 @@ public class MemberServiceTest {
                     .willReturn(Optional.of(member));
             given(redisService.getData(resetPasswordRequest.getEmail() + ":verified"))
                     .willReturn("true");
-            given(passwordEncoder.encode(resetPasswordRequest.getNewPassword()))
+            given(passwordHashingService.encode(resetPasswordRequest.getNewPassword()))
                     .willReturn("변환된비밀번호");
 
             // when
@@ -439,6 +520,7 @@ public class MemberServiceTest {
             then(redisService).should().deleteData(
                     eq(resetPasswordRequest.getEmail() + ":verified")
             );
+            then(refreshTokenService).should().revokeAll("email@example.com");
         }
 
         @Test
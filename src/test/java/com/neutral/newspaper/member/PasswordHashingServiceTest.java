@@ -0,0 +1,114 @@
+package com.neutral.newspaper.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.member.service.PasswordHashingProperties;
+import com.neutral.newspaper.member.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("전용 스레드에서 해시하고 같은 비밀번호로 검증")
+    void encodeAndMatch() {
+        // given
+        PasswordHashingService service = service(4, 1, 8, Duration.ofSeconds(5));
+
+        // when
+        String encoded = service.encode("TestPassword12!");
+
+        // then
+        assertThat(service.matches("TestPassword12!", encoded)).isTrue();
+        assertThat(service.matches("TestPassword12!!", encoded)).isFalse();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("비용 계수가 설정보다 낮은 해시는 다시 해시 대상")
+    void needsRehash() {
+        // given
+        PasswordHashingService service = service(6, 1, 8, Duration.ofSeconds(5));
+        String weaker = new BCryptPasswordEncoder(4).encode("TestPassword12!");
+        String current = new BCryptPasswordEncoder(6).encode("TestPassword12!");
+
+        // when & then
+        assertThat(service.needsRehash(weaker)).isTrue();
+        assertThat(service.needsRehash(current)).isFalse();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 503으로 거절")
+    void shedWhenQueueIsFull() throws Exception {
+        // given
+        PasswordHashingService service = service(12, 1, 1, Duration.ofSeconds(30));
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> service.encode("TestPassword12!")));
+        }
+
+        // then
+        int rejected = 0;
+        for (Future<String> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(CustomException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.PASSWORD_HASHING_OVERLOADED);
+                rejected++;
+            }
+        }
+        assertThat(rejected).isPositive();
+        callers.shutdown();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 계산을 시작하지 못하면 503으로 거절하고 이미 시작한 계산은 끝까지 기다림")
+    void timeout() throws Exception {
+        // given
+        PasswordHashingService service = service(14, 1, 8, Duration.ofMillis(300));
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        Future<String> running = callers.submit(() -> service.encode("TestPassword12!"));
+        while (meterRegistry.get("member.password.hashing.active").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> service.encode("TestPassword12!"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.PASSWORD_HASHING_OVERLOADED);
+        assertThat(running.get()).startsWith("$2a$14$");
+        callers.shutdown();
+        service.shutdown();
+    }
+
+    private PasswordHashingService service(int strength, int threads, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return new PasswordHashingService(new BCryptPasswordEncoder(strength), properties, meterRegistry);
+    }
+}
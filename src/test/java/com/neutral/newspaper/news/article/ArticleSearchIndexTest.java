@@ -0,0 +1,89 @@
+package com.neutral.newspaper.news.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.neutral.newspaper.news.article.domain.Article;
+import com.neutral.newspaper.news.article.service.ArticleIndexProperties;
+import com.neutral.newspaper.news.article.service.ArticleSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ArticleSearchIndexTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Test
+    @DisplayName("검색어를 더 많이 포함한 기사가 먼저 오고, 띄어쓰기가 달라도 검색됨")
+    void rankByBm25() {
+        // given
+        ArticleSearchIndex index = index(2, 100);
+        Article strong = article("http://examplenews.com/1", "삼성전자 반도체 실적", "삼성전자 반도체 실적이 개선됐다.");
+        Article weak = article("http://examplenews.com/2", "반도체 업황", "삼성전자 등 반도체 기업의 업황 전망.");
+        Article unrelated = article("http://examplenews.com/3", "축제 소식", "서울에서 봄 축제가 열린다.");
+        index.index(List.of(strong, weak, unrelated));
+
+        // when
+        List<String> result = index.search("삼성 전자");
+
+        // then
+        assertThat(result).containsExactly(strong.getUrlHash(), weak.getUrlHash());
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 기사가 부족하면 빈 결과를 반환")
+    void missWhenCoverageIsLow() {
+        // given
+        ArticleSearchIndex index = index(2, 100);
+        index.index(List.of(article("http://examplenews.com/1", "삼성전자 실적", "삼성전자 실적 발표.")));
+
+        // when
+        List<String> result = index.search("삼성전자");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 기사 수를 넘으면 가장 먼저 색인된 기사부터 제거")
+    void evictOldestDocuments() {
+        // given
+        ArticleSearchIndex index = index(1, 2);
+        Article first = article("http://examplenews.com/1", "삼성전자 실적", "요약");
+        Article second = article("http://examplenews.com/2", "삼성전자 주가", "요약");
+        Article third = article("http://examplenews.com/3", "삼성전자 노조", "요약");
+
+        // when
+        index.index(List.of(first, second));
+        index.index(List.of(third));
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("삼성전자")).containsExactlyInAnyOrder(second.getUrlHash(), third.getUrlHash());
+    }
+
+    private ArticleSearchIndex index(int minResults, int maxDocuments) {
+        ArticleIndexProperties properties = new ArticleIndexProperties();
+        properties.setMinResults(minResults);
+        properties.setMaxDocuments(maxDocuments);
+        return new ArticleSearchIndex(articleRepository, properties, new SimpleMeterRegistry());
+    }
+
+    private Article article(String url, String title, String summary) {
+        return Article.builder()
+                .url(url)
+                .title(title)
+                .publishedDate(LocalDate.now())
+                .content("본문")
+                .sentiment("중립")
+                .contentSummarized(summary)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.neutral.newspaper.news.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.neutral.newspaper.news.article.domain.Article;
+import com.neutral.newspaper.news.article.service.ArticleSearchIndex;
+import com.neutral.newspaper.news.article.service.ArticleService;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class ArticleServiceTest {
+
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        articleService = new ArticleService(articleRepository, articleSearchIndex,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("처음 보는 기사는 새로 저장")
+    void saveNewArticles() {
+        // given
+        NewsSummaryDto news = new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1),
+                "본문", "중립", "요약");
+        when(articleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of());
+
+        // when
+        List<NewsSummaryDto> result = articleService.mergeSummaries("삼성전자", List.of(news, news));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Article>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getUrlHash()).isEqualTo(Article.hashUrl("http://examplenews.com/1"));
+        assertThat(result).containsExactly(news, news);
+    }
+
+    @Test
+    @DisplayName("요약이 빠진 기사는 저장된 요약을 재사용")
+    void reuseStoredSummary() {
+        // given
+        Article stored = Article.builder()
+                .url("http://examplenews.com/1")
+                .title("제목")
+                .publishedDate(LocalDate.of(2025, 1, 1))
+                .content("본문")
+                .sentiment("긍정")
+                .contentSummarized("저장된 요약")
+                .build();
+        NewsSummaryDto news = new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1),
+                "본문", null, null);
+        when(articleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of(stored));
+
+        // when
+        List<NewsSummaryDto> result = articleService.mergeSummaries("삼성전자", List.of(news));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSentiment()).isEqualTo("긍정");
+        assertThat(result.get(0).getContentSummarized()).isEqualTo("저장된 요약");
+        assertThat(stored.getContentSummarized()).isEqualTo("저장된 요약");
+    }
+
+    @Test
+    @DisplayName("다른 요청이 같은 기사를 먼저 저장하면 새 트랜잭션에서 기존 기사로 갱신")
+    void retryOnConcurrentInsert() {
+        // given
+        NewsSummaryDto news = new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1),
+                "본문", "중립", "새 요약");
+        Article concurrent = Article.builder()
+                .url("http://examplenews.com/1")
+                .title("제목")
+                .publishedDate(LocalDate.of(2025, 1, 1))
+                .content("본문")
+                .sentiment("중립")
+                .contentSummarized("먼저 저장된 요약")
+                .build();
+        when(articleRepository.findByUrlHashIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(concurrent));
+        when(articleRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_articles_url_hash"))
+                .thenReturn(List.of());
+
+        // when
+        List<NewsSummaryDto> result = articleService.mergeSummaries("삼성전자", List.of(news));
+
+        // then
+        assertThat(result).containsExactly(news);
+        assertThat(concurrent.getContentSummarized()).isEqualTo("새 요약");
+        assertThat(concurrent.getTopics()).contains("삼성전자");
+        verify(transactionManager).rollback(any());
+        verify(articleRepository, times(2)).findByUrlHashIn(anyCollection());
+        verify(articleSearchIndex).index(List.of(concurrent));
+    }
+
+    @Test
+    @DisplayName("저장이 롤백되면 색인하지 않음")
+    void skipIndexOnRollback() {
+        // given
+        NewsSummaryDto news = new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1),
+                "본문", "중립", "요약");
+        when(articleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of());
+        when(articleRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_articles_url_hash"));
+
+        // when & then
+        assertThatThrownBy(() -> articleService.mergeSummaries("삼성전자", List.of(news)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionManager, never()).commit(any());
+        verify(articleSearchIndex, never()).index(any());
+    }
+
+    @Test
+    @DisplayName("저장 기사 검색은 %, _ 를 문자 그대로 검색")
+    void escapeLikeWildcards() {
+        // given
+        when(articleRepository.searchByTopic(anyString(), any())).thenReturn(List.of());
+
+        // when
+        articleService.findHistory("100%_달성!", 10);
+
+        // then
+        verify(articleRepository).searchByTopic(eq("100!%!_달성!!"), any());
+    }
+}
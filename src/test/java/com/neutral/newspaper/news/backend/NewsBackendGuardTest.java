@@ -0,0 +1,243 @@
+package com.neutral.newspaper.news.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import reactor.core.publisher.Mono;
+
+public class NewsBackendGuardTest {
+
+    private static final String BACKEND = NewsBackendGuard.MAP_BACKEND;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<NewsBackendGuard> guards = new ArrayList<>();
+
+    private NewsBackendProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NewsBackendProperties();
+        properties.getLatency().setMinSamples(10);
+        properties.getLatency().setMinTimeout(Duration.ofSeconds(1));
+        properties.getLatency().setMaxTimeout(Duration.ofSeconds(5));
+        properties.getHedging().setBackends(List.of(BACKEND));
+        properties.getHedging().setMinDelay(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        guards.forEach(NewsBackendGuard::shutdown);
+    }
+
+    @Test
+    @DisplayName("응답 시간 표본이 쌓이면 타임아웃이 하한까지 줄어듦")
+    void adaptiveTimeout() {
+        // given
+        NewsBackendGuard guard = guard();
+        assertThat(guard.currentTimeout(BACKEND)).isEqualTo(Duration.ofSeconds(5));
+
+        // when
+        warmUp(guard);
+
+        // then
+        assertThat(guard.currentTimeout(BACKEND)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("첫 요청이 느리면 헤지 요청의 응답을 쓰고 호출 스레드에서 실행 중인 첫 요청은 인터럽트")
+    void hedgeWins() throws Exception {
+        // given
+        NewsBackendGuard guard = guard();
+        warmUp(guard);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        // when
+        String result = guard.call(BACKEND, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(3_000);
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("news.backend.hedges", "backend", BACKEND, "result", "hedge_won").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 없으면 첫 요청만 기다림")
+    void budgetExhausted() {
+        // given
+        properties.getHedging().setBudgetRatio(0);
+        NewsBackendGuard guard = guard();
+        warmUp(guard);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = guard.call(BACKEND, () -> {
+            attempts.incrementAndGet();
+            sleep(200);
+            return "primary";
+        });
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("news.backend.hedges", "backend", BACKEND, "result", "budget_exhausted").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃 안에 응답이 없으면 백엔드 장애로 처리")
+    void timeout() {
+        // given
+        properties.getLatency().setMaxTimeout(Duration.ofMillis(100));
+        NewsBackendGuard guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(BACKEND, () -> {
+            sleep(2_000);
+            return "late";
+        }))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NEWS_BACKEND_DEGRADED);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 백엔드 장애가 아니라 잘못된 요청으로 처리")
+    void clientErrorIsNotDegraded() {
+        // given
+        NewsBackendGuard guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(BACKEND, () -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NEWS_BACKEND_REJECTED);
+    }
+
+    @Test
+    @DisplayName("헤지하지 않는 호출은 호출한 스레드에서 바로 실행")
+    void runPrimaryInline() {
+        // given
+        NewsBackendGuard guard = guard();
+        Thread caller = Thread.currentThread();
+
+        // when
+        Thread executed = guard.call(NewsBackendGuard.KEYWORD_BACKEND, Thread::currentThread);
+
+        // then
+        assertThat(executed).isSameAs(caller);
+    }
+
+    @Test
+    @DisplayName("타임아웃된 요청도 타임아웃을 상한으로 응답 시간 표본에 기록")
+    void recordTimedOutLatency() {
+        // given
+        properties.getLatency().setMaxTimeout(Duration.ofMillis(100));
+        NewsBackendGuard guard = guard();
+
+        // when
+        assertThatThrownBy(() -> guard.call(BACKEND, () -> {
+            sleep(2_000);
+            return "late";
+        })).isInstanceOf(CustomException.class);
+
+        // then
+        Timer latency = meterRegistry.get("news.backend.latency").tag("backend", BACKEND).timer();
+        assertThat(latency.count()).isEqualTo(1);
+        assertThat(latency.max(TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(100);
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 번만 실행해야 하는 호출은 헤지하지 않음")
+    void callOnceDoesNotHedge() {
+        // given
+        NewsBackendGuard guard = guard();
+        warmUp(guard);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = guard.callOnce(BACKEND, () -> {
+            attempts.incrementAndGet();
+            sleep(200);
+            return "stream";
+        });
+
+        // then
+        assertThat(result).isEqualTo("stream");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("WebClient 호출도 타임아웃 안에 응답이 없으면 백엔드 장애로 처리")
+    void reactiveTimeout() {
+        // given
+        properties.getLatency().setMaxTimeout(Duration.ofMillis(100));
+        NewsBackendGuard guard = guard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.callReactive(BACKEND, Mono.just("late").delayElement(Duration.ofSeconds(2)))
+                .block())
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NEWS_BACKEND_DEGRADED);
+    }
+
+    private NewsBackendGuard guard() {
+        NewsBackendGuard guard = new NewsBackendGuard(CircuitBreakerRegistry.ofDefaults(), properties,
+                new TaskExecutorAdapter(executor), meterRegistry);
+        guards.add(guard);
+        return guard;
+    }
+
+    // 빠른 응답으로 표본을 채움
+    private void warmUp(NewsBackendGuard guard) {
+        for (int i = 0; i < 20; i++) {
+            guard.call(BACKEND, () -> "ok");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.neutral.newspaper.news.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Policy;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class NewsCacheServiceTest {
+
+    private static final String KEY = "news:map:서울:축제";
+    private static final Policy POLICY = new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30));
+
+    @Mock
+    private RedisService redisService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private NewsCacheService newsCacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 백그라운드 갱신을 테스트 스레드에서 바로 실행
+        NewsCacheProperties properties = new NewsCacheProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        newsCacheService = new NewsCacheService(
+                redisService, objectMapper, new TaskExecutorAdapter(new SyncTaskExecutor()), properties,
+                new NewsLocalCache(properties, meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 직접 조회 후 저장")
+    void loadOnMiss() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        SearchRegionNewsResponseDto result = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    calls.incrementAndGet();
+                    return response();
+                });
+
+        // then
+        assertThat(result.getRegion()).isEqualTo("서울");
+        assertThat(calls.get()).isEqualTo(1);
+        then(redisService).should().saveData(eq(KEY), anyString(), eq(Duration.ofMinutes(40).toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("내용이 같은 응답은 저장 시각이 달라도 같은 ETag를 가짐")
+    void sameContentHasSameEtag() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        NewsCacheService.Cached<SearchRegionNewsResponseDto> written = newsCacheService.getOrLoadCached(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+
+        // when
+        newsCacheService.handleInvalidation("other-node|" + KEY);
+        given(redisService.getData(KEY)).willReturn(entryJson(System.currentTimeMillis() - 1000));
+        NewsCacheService.Cached<SearchRegionNewsResponseDto> read = newsCacheService.getOrLoadCached(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+
+        // then
+        assertThat(written.etag()).isNotNull().startsWith("\"");
+        assertThat(read.etag()).isEqualTo(written.etag());
+        assertThat(read.cacheControl().getHeaderValue()).contains("max-age=", "stale-while-revalidate=1800");
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 응답은 재검증하고 대체 응답은 브라우저에 저장하지 않음")
+    void cacheControlForStaleAndFallback() {
+        // given
+        long now = System.currentTimeMillis();
+        NewsCacheService.Cached<SearchRegionNewsResponseDto> fresh =
+                new NewsCacheService.Cached<>(response(), now, "\"etag\"", POLICY);
+        NewsCacheService.Cached<SearchRegionNewsResponseDto> stale =
+                new NewsCacheService.Cached<>(response(), now - Duration.ofMinutes(11).toMillis(), "\"etag\"", POLICY);
+        NewsCacheService.Cached<SearchRegionNewsResponseDto> fallback =
+                new NewsCacheService.Cached<>(response(), now, null, POLICY);
+
+        // when, then
+        assertThat(fresh.cacheControl().getHeaderValue()).contains("max-age=", "private").doesNotContain("public");
+        assertThat(stale.cacheControl().getHeaderValue()).isEqualTo("no-cache, private");
+        assertThat(fallback.cacheControl().getHeaderValue()).isEqualTo("no-store");
+    }
+
+    @Test
+    @DisplayName("ttl 이내의 캐시 항목은 조회 없이 반환")
+    void serveFreshEntry() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(entryJson(System.currentTimeMillis()));
+
+        // when
+        SearchRegionNewsResponseDto result = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    throw new AssertionError("fresh entry must not be reloaded");
+                });
+
+        // then
+        assertThat(result.getNews()).hasSize(1);
+        then(redisService).should(never()).saveDataIfAbsent(anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 오래된 응답을 반환하고 한 번만 갱신")
+    void serveStaleEntryAndRefresh() throws Exception {
+        // given
+        long cachedAt = System.currentTimeMillis() - Duration.ofMinutes(15).toMillis();
+        given(redisService.getData(KEY)).willReturn(entryJson(cachedAt));
+        given(redisService.saveDataIfAbsent(eq(KEY + ":refreshing"), anyString(), anyLong(), any()))
+                .willReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        SearchRegionNewsResponseDto result = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    calls.incrementAndGet();
+                    return response();
+                });
+
+        // then
+        assertThat(result.getRegion()).isEqualTo("서울");
+        assertThat(calls.get()).isEqualTo(1);
+        then(redisService).should().deleteData(KEY + ":refreshing");
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 항목은 Redis를 거치지 않고 L1에서 반환")
+    void serveFromLocalCache() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(entryJson(System.currentTimeMillis()));
+
+        // when
+        SearchRegionNewsResponseDto first = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+        SearchRegionNewsResponseDto second = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+
+        // then
+        assertThat(second).isSameAs(first);
+        then(redisService).should(times(1)).getData(KEY);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 항목을 지우고 Redis에서 다시 조회")
+    void invalidateLocalCacheFromOtherNode() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(entryJson(System.currentTimeMillis()));
+        newsCacheService.getOrLoad(KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+
+        // when
+        newsCacheService.handleInvalidation("other-node|" + KEY);
+        newsCacheService.getOrLoad(KEY, SearchRegionNewsResponseDto.class, POLICY, this::response);
+
+        // then
+        then(redisService).should(times(2)).getData(KEY);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 상황에서 조회에 실패하면 마지막 정상 응답을 반환")
+    void fallbackToLastKnownGood() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        given(redisService.getData(KEY + ":last-good")).willReturn(objectMapper.writeValueAsString(response()));
+
+        // when
+        SearchRegionNewsResponseDto result = newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    throw new IllegalStateException("backend down");
+                });
+
+        // then
+        assertThat(result.getRegion()).isEqualTo("서울");
+    }
+
+    @Test
+    @DisplayName("마지막 정상 응답도 없으면 조회 실패를 그대로 전달")
+    void rethrowWithoutLastKnownGood() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        given(redisService.getData(KEY + ":last-good")).willReturn(null);
+
+        // when, then
+        assertThatThrownBy(() -> newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    throw new IllegalStateException("backend down");
+                })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("요약 서버가 4xx로 거절한 요청은 마지막 정상 응답으로 대체하지 않음")
+    void rethrowRejectedRequest() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+
+        // when, then
+        assertThatThrownBy(() -> newsCacheService.getOrLoad(
+                KEY, SearchRegionNewsResponseDto.class, POLICY, () -> {
+                    throw new CustomException(ErrorType.NEWS_BACKEND_REJECTED);
+                }))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.NEWS_BACKEND_REJECTED);
+        then(redisService).should(never()).getData(KEY + ":last-good");
+    }
+
+    @Test
+    @DisplayName("WebClient 조회도 캐시 미스 시 조회 후 저장하고, 캐시 항목이 있으면 조회하지 않음")
+    void loadReactiveOnMiss() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<SearchRegionNewsResponseDto> loader = Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return response();
+        });
+
+        // when
+        StepVerifier.create(newsCacheService.getOrLoadReactive(KEY, SearchRegionNewsResponseDto.class, POLICY, loader))
+                .assertNext(result -> assertThat(result.getRegion()).isEqualTo("서울"))
+                .verifyComplete();
+        StepVerifier.create(newsCacheService.getOrLoadReactive(KEY, SearchRegionNewsResponseDto.class, POLICY, loader))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        then(redisService).should().saveData(eq(KEY), anyString(), eq(Duration.ofMinutes(40).toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("WebClient 조회가 실패하면 마지막 정상 응답을 반환하고, 4xx 거절은 그대로 전달")
+    void fallbackReactive() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        given(redisService.getData(KEY + ":last-good")).willReturn(objectMapper.writeValueAsString(response()));
+
+        // when, then
+        StepVerifier.create(newsCacheService.getOrLoadReactive(KEY, SearchRegionNewsResponseDto.class, POLICY,
+                        Mono.error(new CustomException(ErrorType.NEWS_BACKEND_DEGRADED))))
+                .assertNext(result -> assertThat(result.getRegion()).isEqualTo("서울"))
+                .verifyComplete();
+        StepVerifier.create(newsCacheService.getOrLoadReactive(KEY, SearchRegionNewsResponseDto.class, POLICY,
+                        Mono.error(new CustomException(ErrorType.NEWS_BACKEND_REJECTED))))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(CustomException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.NEWS_BACKEND_REJECTED))
+                .verify();
+    }
+
+    private SearchRegionNewsResponseDto response() {
+        return new SearchRegionNewsResponseDto(
+                "서울", "축제", List.of(new NewsInfoDto("축제 뉴스 제목", "http://examplenews.com", "축제 뉴스 내용"))
+        );
+    }
+
+    private String entryJson(long cachedAt) throws Exception {
+        return objectMapper.writeValueAsString(new NewsCacheEntry(cachedAt, objectMapper.valueToTree(response()), null));
+    }
+}
@@ -0,0 +1,80 @@
+package com.neutral.newspaper.news.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Lease;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+public class SingleFlightServiceTest {
+
+    private static final String KEY = "news:keyword:삼성전자";
+    private static final Lease LEASE = new Lease(Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofMillis(50));
+
+    @Mock
+    private RedisService redisService;
+
+    private SingleFlightService singleFlightService;
+
+    @BeforeEach
+    void setUp() {
+        singleFlightService = new SingleFlightService(redisService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("lease를 얻은 노드는 한 번만 조회하고 결과를 공유")
+    void loadOnceWithLease() {
+        // given
+        given(redisService.getData(KEY + ":result")).willReturn(null);
+        given(redisService.saveDataIfAbsent(eq(KEY + ":lease"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .willReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = singleFlightService.execute(KEY, String.class, LEASE, () -> {
+            calls.incrementAndGet();
+            return "요약 결과";
+        });
+
+        // then
+        assertThat(result).isEqualTo("요약 결과");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 후 lease 해제에 실패해도 다시 조회하지 않고 받은 값을 반환")
+    void keepLoadedValueWhenReleaseFails() {
+        // given
+        given(redisService.getData(KEY + ":result")).willReturn(null);
+        given(redisService.saveDataIfAbsent(eq(KEY + ":lease"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .willReturn(true);
+        given(redisService.deleteDataIfMatches(eq(KEY + ":lease"), anyString()))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = singleFlightService.execute(KEY, String.class, LEASE, () -> {
+            calls.incrementAndGet();
+            return "요약 결과";
+        });
+
+        // then
+        assertThat(result).isEqualTo("요약 결과");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
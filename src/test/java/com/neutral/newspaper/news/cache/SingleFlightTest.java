@@ -0,0 +1,76 @@
+package com.neutral.newspaper.news.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 key의 동시 호출은 한 번만 실행되고 결과를 공유")
+    void coalesceConcurrentCalls() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("삼성전자", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "요약 결과";
+        })));
+        started.await(1, TimeUnit.SECONDS);
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("삼성전자", () -> {
+                executions.incrementAndGet();
+                return "중복 실행";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("요약 결과");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중 예외가 발생하면 예외를 전달하고 다음 호출은 새로 실행")
+    void propagateFailure() {
+        // when, then
+        assertThatThrownBy(() -> singleFlight.execute("삼성전자", () -> {
+            throw new IllegalStateException("backend down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("삼성전자", () -> "요약 결과")).isEqualTo("요약 결과");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.neutral.newspaper.news.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.interest.InterestRepository;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.feed.domain.FeedResponseDto;
+import com.neutral.newspaper.news.feed.service.FeedService;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.KeywordService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+public class FeedServiceTest {
+
+    @Mock
+    private KeywordService keywordService;
+
+    @Mock
+    private InterestRepository interestRepository;
+
+    @Mock
+    private NewsCacheService newsCacheService;
+
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new FeedService(keywordService, interestRepository, newsCacheService, new NewsCacheProperties(),
+                new SimpleAsyncTaskExecutor(), 2, 20, 100);
+        given(newsCacheService.getOrLoad(anyString(), eq(FeedResponseDto.class), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<FeedResponseDto>>getArgument(3).get());
+    }
+
+    @Test
+    @DisplayName("관심사별 기사를 URL 기준으로 합치고 최신순으로 정렬")
+    void mergeInterestsByUrlAndDate() {
+        // given
+        NewsSummaryDto older = news("http://examplenews.com/1", LocalDate.of(2025, 1, 1));
+        NewsSummaryDto newer = news("http://examplenews.com/2", LocalDate.of(2025, 1, 3));
+        given(interestRepository.findNamesByMemberEmail("user@email.com")).willReturn(List.of("경제", "반도체", "스포츠"));
+        given(keywordService.summarizeKeywordNews(argThat(request -> request != null && "경제".equals(request.getTopic()))))
+                .willReturn(response(older, newer));
+        given(keywordService.summarizeKeywordNews(argThat(request -> request != null && "반도체".equals(request.getTopic()))))
+                .willReturn(response(newer));
+        given(keywordService.summarizeKeywordNews(argThat(request -> request != null && "스포츠".equals(request.getTopic()))))
+                .willThrow(new CustomException(ErrorType.NEWS_BACKEND_DEGRADED));
+
+        // when
+        FeedResponseDto feed = feedService.getFeed("user@email.com");
+
+        // then
+        assertThat(feed.getNews()).extracting(NewsSummaryDto::getUrl)
+                .containsExactly("http://examplenews.com/2", "http://examplenews.com/1");
+        assertThat(feed.getFailed()).containsExactly("스포츠");
+    }
+
+    @Test
+    @DisplayName("모든 관심사 조회가 실패하면 예외 발생")
+    void failWhenEveryInterestFails() {
+        // given
+        given(interestRepository.findNamesByMemberEmail("user@email.com")).willReturn(List.of("경제"));
+        given(keywordService.summarizeKeywordNews(argThat(request -> request != null && "경제".equals(request.getTopic()))))
+                .willThrow(new CustomException(ErrorType.NEWS_BACKEND_DEGRADED));
+
+        // when, then
+        assertThatThrownBy(() -> feedService.getFeed("user@email.com"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private SearchResponseDto response(NewsSummaryDto... news) {
+        SearchResponseDto response = new SearchResponseDto();
+        response.setNews(List.of(news));
+        return response;
+    }
+
+    private NewsSummaryDto news(String url, LocalDate date) {
+        return new NewsSummaryDto("제목", url, date, "본문", "중립", "요약");
+    }
+}
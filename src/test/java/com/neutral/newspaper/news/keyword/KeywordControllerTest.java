@@ -0,0 +1,153 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.neutral.newspaper.config.JacksonConfig;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Policy;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.KeywordService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(KeywordController.class)
+@Import(JacksonConfig.class)
+public class KeywordControllerTest {
+
+    private static final String REQUEST = "{\"topic\":\"경제\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private KeywordService keywordService;
+
+    @BeforeEach
+    void setUp() {
+        given(keywordService.streamKeywordNews(any(), any())).willAnswer(invocation -> {
+            Consumer<NewsSummaryDto> consumer = invocation.getArgument(1);
+            consumer.accept(news("첫 기사"));
+            consumer.accept(news("둘째 기사"));
+            return 2;
+        });
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("GET 조회는 ETag를 반환하고 If-None-Match가 같으면 조건을 적용하지 않고 304 반환")
+    void returnNotModifiedForMatchingEtag() throws Exception {
+        // given
+        SearchResponseDto response = new SearchResponseDto();
+        response.setNews(List.of(news("첫 기사")));
+        Cached<SearchResponseDto> cached = new Cached<>(response, System.currentTimeMillis(), "\"keyword-etag\"",
+                new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30)));
+        given(keywordService.summarizeKeywordNewsCached(any(), any())).willReturn(cached);
+        given(keywordService.applyQuery(any(), any())).willReturn(response);
+
+        // when, then
+        mockMvc.perform(get("/keyword").param("topic", "경제"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"keyword-etag\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")));
+
+        mockMvc.perform(get("/keyword")
+                        .param("topic", "경제")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"keyword-etag\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"keyword-etag\""))
+                .andExpect(content().string(""));
+        then(keywordService).should(times(1)).applyQuery(any(), any());
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("Accept가 text/event-stream이면 기사마다 news 이벤트를 보내고 done 이벤트로 끝냄")
+    void streamAsServerSentEvents() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(post("/keyword/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(REQUEST)
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("\n\n")).hasSize(3);
+        assertThat(body).startsWith("event: news\ndata: {\"title\":\"첫 기사\"")
+                .endsWith("event: done\ndata: \n\n");
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("Accept가 application/x-ndjson이면 한 줄에 기사 하나씩 보냄")
+    void streamAsNdjson() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(post("/keyword/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(REQUEST)
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("\n")).hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"title\":"));
+        assertThat(body).endsWith("}\n").doesNotContain("event:");
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("스트림 형식이 아닌 Accept는 406 반환")
+    void rejectUnsupportedAccept() throws Exception {
+        // when, then
+        mockMvc.perform(post("/keyword/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_XML)
+                        .content(REQUEST)
+                        .with(csrf()))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private NewsSummaryDto news(String title) {
+        return new NewsSummaryDto(title, "http://examplenews.com", LocalDate.of(2025, 1, 2), "기사 내용", "중립", "요약");
+    }
+}
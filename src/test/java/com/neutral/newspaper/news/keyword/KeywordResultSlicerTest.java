@@ -0,0 +1,87 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.news.keyword.domain.KeywordQueryDto;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.KeywordResultSlicer;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class KeywordResultSlicerTest {
+
+    private final KeywordResultSlicer keywordResultSlicer = new KeywordResultSlicer();
+
+    @Test
+    @DisplayName("감정과 날짜 조건에 맞는 기사만 반환하고 원본은 수정하지 않음")
+    void filterBySentimentAndDate() {
+        // given
+        SearchResponseDto source = response(
+                news("http://examplenews.com/1", LocalDate.of(2025, 1, 1), "긍정"),
+                news("http://examplenews.com/2", LocalDate.of(2025, 1, 5), "부정"),
+                news("http://examplenews.com/3", LocalDate.of(2025, 1, 10), "긍정"));
+        KeywordQueryDto query = new KeywordQueryDto();
+        query.setSentiment(List.of("긍정"));
+        query.setFrom(LocalDate.of(2025, 1, 2));
+
+        // when
+        SearchResponseDto result = keywordResultSlicer.slice(source, query);
+
+        // then
+        assertThat(result.getNews()).extracting(NewsSummaryDto::getUrl).containsExactly("http://examplenews.com/3");
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(source.getNews()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 조회")
+    void paginateWithCursor() {
+        // given
+        SearchResponseDto source = response(
+                news("http://examplenews.com/1", LocalDate.of(2025, 1, 1), "중립"),
+                news("http://examplenews.com/2", LocalDate.of(2025, 1, 3), "중립"),
+                news("http://examplenews.com/3", LocalDate.of(2025, 1, 2), "중립"));
+        KeywordQueryDto firstQuery = new KeywordQueryDto();
+        firstQuery.setSize(2);
+
+        // when
+        SearchResponseDto first = keywordResultSlicer.slice(source, firstQuery);
+        KeywordQueryDto nextQuery = new KeywordQueryDto();
+        nextQuery.setSize(2);
+        nextQuery.setCursor(first.getNextCursor());
+        SearchResponseDto next = keywordResultSlicer.slice(source, nextQuery);
+
+        // then
+        assertThat(first.getNews()).extracting(NewsSummaryDto::getUrl)
+                .containsExactly("http://examplenews.com/2", "http://examplenews.com/3");
+        assertThat(next.getNews()).extracting(NewsSummaryDto::getUrl).containsExactly("http://examplenews.com/1");
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외 발생")
+    void failWithInvalidCursor() {
+        // given
+        KeywordQueryDto query = new KeywordQueryDto();
+        query.setCursor("잘못된 커서");
+
+        // when, then
+        assertThatThrownBy(() -> keywordResultSlicer.slice(response(), query))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private SearchResponseDto response(NewsSummaryDto... news) {
+        SearchResponseDto response = new SearchResponseDto();
+        response.setNews(List.of(news));
+        return response;
+    }
+
+    private NewsSummaryDto news(String url, LocalDate date, String sentiment) {
+        return new NewsSummaryDto("제목", url, date, "본문", sentiment, "요약");
+    }
+}
@@ -0,0 +1,59 @@
+package com.neutral.newspaper.news.keyword;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 인코딩별 응답 크기와 직렬화 시간 비교, 기본 test 작업에서는 제외되고 ./gradlew benchmark로 실행
+@Tag("benchmark")
+public class NewsPayloadEncodingBenchmark {
+
+    private static final int ITERATIONS = 200;
+
+    private final SimpleFilterProvider filters = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().filters(filters).build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().filters(filters).factory(new CBORFactory()).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().filters(filters).factory(new SmileFactory()).build();
+
+    @Test
+    @DisplayName("인코딩별 응답 크기와 직렬화 시간")
+    void compareEncodings() throws IOException {
+        SearchResponseDto response = NewsPayloadEncodingTest.sampleResponse(30);
+
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+
+        System.out.printf("json=%dB (%.1fus), gzip(json)=%dB (%.1fus), cbor=%dB (%.1fus), smile=%dB (%.1fus), gzip(smile)=%dB%n",
+                jsonBytes.length, micros(json, response, false),
+                NewsPayloadEncodingTest.gzip(jsonBytes).length, micros(json, response, true),
+                cbor.writeValueAsBytes(response).length, micros(cbor, response, false),
+                smileBytes.length, micros(smile, response, false),
+                NewsPayloadEncodingTest.gzip(smileBytes).length);
+    }
+
+    private double micros(ObjectMapper mapper, SearchResponseDto response, boolean compress) throws IOException {
+        // JIT 워밍업 후 측정
+        for (int i = 0; i < ITERATIONS; i++) {
+            encode(mapper, response, compress);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encode(mapper, response, compress);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private byte[] encode(ObjectMapper mapper, SearchResponseDto response, boolean compress) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(response);
+        return compress ? NewsPayloadEncodingTest.gzip(bytes) : bytes;
+    }
+}
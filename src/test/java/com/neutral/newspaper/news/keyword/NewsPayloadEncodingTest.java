@@ -0,0 +1,90 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 키워드 검색 응답을 인코딩별로 직렬화해서 크기와 왕복 결과를 확인, 직렬화 시간 비교는 NewsPayloadEncodingBenchmark
+public class NewsPayloadEncodingTest {
+
+    private final SimpleFilterProvider filters = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().filters(filters).build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().filters(filters).factory(new CBORFactory()).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().filters(filters).factory(new SmileFactory()).build();
+
+    @Test
+    @DisplayName("gzip과 바이너리 인코딩이 JSON보다 작은 응답을 만듦")
+    void binaryEncodingsAreSmaller() throws IOException {
+        // given
+        SearchResponseDto response = sampleResponse(30);
+
+        // when
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] cborBytes = cbor.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+
+        // then
+        assertThat(gzip(jsonBytes).length).isLessThan(jsonBytes.length / 2);
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    @Test
+    @DisplayName("CBOR과 Smile로 직렬화한 응답을 다시 읽으면 원래 응답과 같음")
+    void binaryEncodingsRoundTrip() throws IOException {
+        // given
+        SearchResponseDto response = sampleResponse(30);
+        response.setNextCursor("cursor");
+
+        // when
+        SearchResponseDto fromCbor = cbor.readValue(cbor.writeValueAsBytes(response), SearchResponseDto.class);
+        SearchResponseDto fromSmile = smile.readValue(smile.writeValueAsBytes(response), SearchResponseDto.class);
+
+        // then
+        assertThat(fromCbor).usingRecursiveComparison().isEqualTo(response);
+        assertThat(fromSmile).usingRecursiveComparison().isEqualTo(response);
+    }
+
+    static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    static SearchResponseDto sampleResponse(int count) {
+        List<NewsSummaryDto> news = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            news.add(new NewsSummaryDto(
+                    "삼성전자, 반도체 업황 회복에 " + i + "분기 실적 개선 전망",
+                    "https://news.example.com/article/2025/01/" + (100000 + i),
+                    LocalDate.of(2025, 1, 1).plusDays(i % 28),
+                    "삼성전자가 메모리 반도체 가격 상승과 고대역폭메모리(HBM) 수요 확대에 힘입어 실적이 개선될 것이라는 "
+                            + "전망이 나왔다. 증권가에서는 " + i + "분기 영업이익이 시장 예상치를 웃돌 것으로 보고 있으며, "
+                            + "파운드리 부문의 적자 폭도 줄어들 것으로 예상했다. 다만 글로벌 경기 둔화와 환율 변동성은 "
+                            + "여전히 변수로 꼽힌다.",
+                    i % 3 == 0 ? "긍정" : i % 3 == 1 ? "중립" : "부정",
+                    "메모리 가격 상승과 HBM 수요로 삼성전자 " + i + "분기 실적 개선이 예상되지만 경기 둔화는 변수."));
+        }
+        SearchResponseDto response = new SearchResponseDto();
+        response.setNews(news);
+        return response;
+    }
+}
@@ -0,0 +1,128 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.service.NewsSummaryStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class NewsSummaryStreamReaderTest {
+
+    private static final String FIRST = """
+            {"title":"첫 기사","url":"http://examplenews.com/1","date":"2025.01.02","sentiment":"긍정"}""";
+    private static final String SECOND = """
+            {"title":"둘째 기사","url":"http://examplenews.com/2","date":"2025.01.03","sentiment":"부정"}""";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final NewsSummaryStreamReader reader = new NewsSummaryStreamReader(objectMapper);
+
+    @Test
+    @DisplayName("NDJSON 응답은 한 줄에 기사 하나씩 읽음")
+    void readNdjson() throws Exception {
+        // given
+        List<NewsSummaryDto> received = new ArrayList<>();
+
+        // when
+        int count = reader.read(body(FIRST + "\n" + SECOND + "\n"), MediaType.APPLICATION_NDJSON, received::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting("title").containsExactly("첫 기사", "둘째 기사");
+        assertThat(received.get(0).getDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+    }
+
+    @Test
+    @DisplayName("news 배열 응답은 다른 필드를 건너뛰고 배열 원소를 하나씩 읽음")
+    void readNewsArray() throws Exception {
+        // given
+        List<NewsSummaryDto> received = new ArrayList<>();
+        String json = "{\"topic\":\"경제\",\"meta\":{\"total\":2},\"news\":[" + FIRST + "," + SECOND + "]}";
+
+        // when
+        int count = reader.read(body(json), MediaType.APPLICATION_JSON, received::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting("title").containsExactly("첫 기사", "둘째 기사");
+    }
+
+    @Test
+    @DisplayName("다음 기사가 도착하기 전에 먼저 받은 기사를 넘겨줌")
+    void readIncrementally() throws Exception {
+        // given
+        PipedOutputStream upstream = new PipedOutputStream();
+        PipedInputStream body = new PipedInputStream(upstream);
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        List<NewsSummaryDto> received = new ArrayList<>();
+
+        Thread server = Thread.ofVirtual().start(() -> {
+            try (upstream) {
+                upstream.write((FIRST + "\n").getBytes(StandardCharsets.UTF_8));
+                upstream.flush();
+                // 첫 기사를 넘겨받기 전에는 다음 줄을 보내지 않음
+                if (firstReceived.await(5, TimeUnit.SECONDS)) {
+                    upstream.write((SECOND + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        int count = reader.read(body, MediaType.APPLICATION_NDJSON, news -> {
+            received.add(news);
+            firstReceived.countDown();
+        });
+        server.join();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting("title").containsExactly("첫 기사", "둘째 기사");
+    }
+
+    @Test
+    @DisplayName("잘못된 줄을 만나면 앞선 기사까지만 넘겨주고 예외를 전달")
+    void malformedLine() {
+        // given
+        List<NewsSummaryDto> received = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(body(FIRST + "\n{\"title\": oops}\n" + SECOND + "\n"),
+                MediaType.APPLICATION_NDJSON, received::add))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThat(received).extracting("title").containsExactly("첫 기사");
+    }
+
+    @Test
+    @DisplayName("마지막 줄이 중간에 끊기면 완성된 기사까지만 넘겨주고 예외를 전달")
+    void partialLine() {
+        // given
+        List<NewsSummaryDto> received = new ArrayList<>();
+        String truncated = SECOND.substring(0, SECOND.length() / 2);
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(body(FIRST + "\n" + truncated), MediaType.APPLICATION_NDJSON, received::add))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThat(received).extracting("title").containsExactly("첫 기사");
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
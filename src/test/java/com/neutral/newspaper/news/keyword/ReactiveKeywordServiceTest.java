@@ -0,0 +1,151 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.backend.NewsBackendProperties;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.cache.NewsLocalCache;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.keyword.domain.SearchNewsRequestDto;
+import com.neutral.newspaper.news.keyword.domain.SearchResponseDto;
+import com.neutral.newspaper.news.keyword.service.KeywordTopicProperties;
+import com.neutral.newspaper.news.keyword.service.ReactiveKeywordService;
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer;
+import com.neutral.newspaper.redis.RedisService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveKeywordServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()))
+            .build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TopicCanonicalizer topicCanonicalizer =
+            new TopicCanonicalizer(new KeywordTopicProperties(), meterRegistry);
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    private NewsCacheService newsCacheService;
+    private NewsBackendGuard newsBackendGuard;
+
+    @BeforeEach
+    void setUp() {
+        NewsCacheProperties properties = new NewsCacheProperties();
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(new SyncTaskExecutor());
+        newsCacheService = new NewsCacheService(redisService, objectMapper, executor, properties,
+                new NewsLocalCache(properties, meterRegistry), meterRegistry);
+        newsBackendGuard = new NewsBackendGuard(CircuitBreakerRegistry.ofDefaults(), new NewsBackendProperties(),
+                executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsBackendGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 토픽의 동시 요청은 요약 서버 호출 한 번을 함께 구독")
+    void coalesceConcurrentRequests() {
+        // given
+        ReactiveKeywordService service = service(HttpStatus.OK, MediaType.APPLICATION_JSON,
+                "{\"news\":[{\"title\":\"경제 기사\",\"url\":\"http://examplenews.com\"}]}", Duration.ofMillis(100));
+
+        // when
+        Mono<SearchResponseDto> first = service.summarizeKeywordNews(new SearchNewsRequestDto("경제"));
+        Mono<SearchResponseDto> second = service.summarizeKeywordNews(new SearchNewsRequestDto(" 경제 "));
+
+        // then
+        StepVerifier.create(Mono.zip(first, second))
+                .assertNext(results -> assertThat(results.getT1()).isSameAs(results.getT2()))
+                .verifyComplete();
+        assertThat(backendCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요약 서버가 5xx로 실패하면 마지막 정상 응답으로 대체")
+    void fallbackOnServerError() throws Exception {
+        // given
+        SearchResponseDto lastGood = new SearchResponseDto();
+        lastGood.setNews(List.of(new NewsSummaryDto("경제 기사", "http://examplenews.com", LocalDate.of(2025, 1, 2),
+                "기사 내용", "중립", "요약")));
+        String key = NewsCacheKey.of("keyword", topicCanonicalizer.canonicalize("경제").key());
+        given(redisService.getData(key + ":last-good")).willReturn(objectMapper.writeValueAsString(lastGood));
+        ReactiveKeywordService service = service(HttpStatus.SERVICE_UNAVAILABLE, MediaType.APPLICATION_JSON, "{}",
+                Duration.ZERO);
+
+        // when, then
+        StepVerifier.create(service.summarizeKeywordNews(new SearchNewsRequestDto("경제")))
+                .assertNext(response -> assertThat(response.getNews()).extracting("title").containsExactly("경제 기사"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("스트림 요청에 news가 없는 JSON이 오면 빈 기사 스트림으로 전달")
+    void streamNullNewsAsEmpty() {
+        // given
+        ReactiveKeywordService service = service(HttpStatus.OK, MediaType.APPLICATION_JSON, "{}", Duration.ZERO);
+
+        // when, then
+        StepVerifier.create(service.streamKeywordNews(new SearchNewsRequestDto("경제")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("스트림 요청에 NDJSON이 오면 기사 단위로 전달")
+    void streamNdjson() {
+        // given
+        ReactiveKeywordService service = service(HttpStatus.OK, MediaType.APPLICATION_NDJSON,
+                "{\"title\":\"첫 기사\"}\n{\"title\":\"둘째 기사\"}\n", Duration.ZERO);
+
+        // when, then
+        StepVerifier.create(service.streamKeywordNews(new SearchNewsRequestDto("경제")))
+                .assertNext(news -> assertThat(news.getTitle()).isEqualTo("첫 기사"))
+                .assertNext(news -> assertThat(news.getTitle()).isEqualTo("둘째 기사"))
+                .verifyComplete();
+    }
+
+    private ReactiveKeywordService service(HttpStatus status, MediaType contentType, String body, Duration delay) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    backendCalls.incrementAndGet();
+                    return Mono.delay(delay).thenReturn(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, contentType.toString())
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactiveKeywordService(webClient, newsCacheService, newsBackendGuard, topicCanonicalizer);
+    }
+}
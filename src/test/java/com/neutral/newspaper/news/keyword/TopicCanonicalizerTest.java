@@ -0,0 +1,82 @@
+package com.neutral.newspaper.news.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.neutral.newspaper.news.keyword.service.KeywordTopicProperties;
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer;
+import com.neutral.newspaper.news.keyword.service.TopicCanonicalizer.CanonicalTopic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.text.Normalizer;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TopicCanonicalizerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TopicCanonicalizer topicCanonicalizer = new TopicCanonicalizer(properties(), meterRegistry);
+
+    @Test
+    @DisplayName("공백, 띄어쓰기, 조사, 유니코드 표기만 다른 토픽은 같은 키로 정규화")
+    void canonicalizeEquivalentTopics() {
+        // given
+        String decomposed = Normalizer.normalize("삼성전자", Normalizer.Form.NFD);
+
+        // when
+        CanonicalTopic plain = topicCanonicalizer.canonicalize("삼성전자");
+        CanonicalTopic padded = topicCanonicalizer.canonicalize("  삼성전자 ");
+        CanonicalTopic spaced = topicCanonicalizer.canonicalize("삼성 전자");
+        CanonicalTopic withParticle = topicCanonicalizer.canonicalize("삼성전자는");
+        CanonicalTopic nfd = topicCanonicalizer.canonicalize(decomposed);
+
+        // then
+        assertThat(List.of(padded.key(), spaced.key(), withParticle.key(), nfd.key())).containsOnly(plain.key());
+        assertThat(withParticle.topic()).isEqualTo("삼성전자");
+        assertThat(meterRegistry.get("news.keyword.topic.canonicalized").tag("result", "unchanged").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동의어는 대표 토픽으로 변환하고 대소문자를 구분하지 않음")
+    void canonicalizeSynonyms() {
+        // when
+        CanonicalTopic alias = topicCanonicalizer.canonicalize("Samsung");
+
+        // then
+        assertThat(alias.topic()).isEqualTo("삼성전자");
+        assertThat(alias.key()).isEqualTo("삼성전자");
+    }
+
+    @Test
+    @DisplayName("설정된 토픽 뒤의 조사는 제거")
+    void stripParticleAfterKnownTopic() {
+        // when
+        CanonicalTopic known = topicCanonicalizer.canonicalize("한국은행은 기준금리를");
+        CanonicalTopic alias = topicCanonicalizer.canonicalize("삼성은");
+
+        // then
+        assertThat(known.topic()).isEqualTo("한국은행 기준금리");
+        assertThat(alias.topic()).isEqualTo("삼성전자");
+    }
+
+    @Test
+    @DisplayName("마지막 글자가 조사와 같은 명사는 그대로 유지")
+    void keepNounEndingWithParticle() {
+        // when
+        CanonicalTopic noun = topicCanonicalizer.canonicalize("한마을");
+        CanonicalTopic unknown = topicCanonicalizer.canonicalize("하늘은");
+        CanonicalTopic particleOnly = topicCanonicalizer.canonicalize("은");
+
+        // then
+        assertThat(noun.topic()).isEqualTo("한마을");
+        assertThat(unknown.topic()).isEqualTo("하늘은");
+        assertThat(particleOnly.topic()).isEqualTo("은");
+    }
+
+    private KeywordTopicProperties properties() {
+        KeywordTopicProperties properties = new KeywordTopicProperties();
+        properties.setKnownTopics(List.of("한국은행", "기준금리"));
+        properties.setSynonyms(List.of(List.of("삼성전자", "samsung", "삼성")));
+        return properties;
+    }
+}
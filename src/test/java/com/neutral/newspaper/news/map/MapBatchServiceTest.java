@@ -0,0 +1,84 @@
+package com.neutral.newspaper.news.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Policy;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
+import com.neutral.newspaper.news.map.domain.MapBatchRequestDto;
+import com.neutral.newspaper.news.map.domain.MapBatchResponseDto;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.MapBatchService;
+import com.neutral.newspaper.news.map.service.MapService;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+public class MapBatchServiceTest {
+
+    @Mock
+    private MapService mapService;
+
+    private MapBatchService mapBatchService;
+
+    @BeforeEach
+    void setUp() {
+        mapBatchService = new MapBatchService(mapService, new SimpleAsyncTaskExecutor(), 2, 10);
+    }
+
+    @Test
+    @DisplayName("지역별로 카테고리 결과를 합치고 같은 link의 기사는 한 번만 포함")
+    void mergeAndDeduplicateByLink() {
+        // given
+        NewsInfoDto festival = new NewsInfoDto("축제 뉴스", "http://examplenews.com/1", "축제 뉴스 설명");
+        NewsInfoDto economy = new NewsInfoDto("경제 뉴스", "http://examplenews.com/2", "경제 뉴스 설명");
+
+        given(mapService.findRegionNews("서울", "축제"))
+                .willReturn(cached(new SearchRegionNewsResponseDto("서울", "축제", List.of(festival))));
+        given(mapService.findRegionNews("서울", "경제"))
+                .willReturn(cached(new SearchRegionNewsResponseDto("서울", "경제", List.of(festival, economy))));
+        given(mapService.findRegionNews("부산", "축제"))
+                .willReturn(cached(new SearchRegionNewsResponseDto("부산", "축제", List.of(festival))));
+        given(mapService.findRegionNews("부산", "경제"))
+                .willThrow(new CustomException(ErrorType.NEWS_BACKEND_DEGRADED));
+
+        // when
+        MapBatchResponseDto result = mapBatchService.findRegionNewsBatch(
+                new MapBatchRequestDto(List.of("서울", "부산", "서울"), List.of("축제", "경제")));
+
+        // then
+        assertThat(result.getNews().get("서울")).extracting(NewsInfoDto::getLink)
+                .containsExactly("http://examplenews.com/1", "http://examplenews.com/2");
+        assertThat(result.getNews().get("부산")).hasSize(1);
+        assertThat(result.getFailed()).containsExactly("부산:경제");
+    }
+
+    @Test
+    @DisplayName("지역/카테고리 조합 수가 허용 범위를 넘으면 실패")
+    void rejectTooManyPairs() {
+        // given
+        MapBatchRequestDto batchRequest = new MapBatchRequestDto(
+                List.of("서울", "부산", "대구", "인천"), List.of("축제", "경제", "사회"));
+
+        // when, then
+        assertThatThrownBy(() -> mapBatchService.findRegionNewsBatch(batchRequest))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("조합 수가 허용 범위를 넘을 수 없습니다.");
+    }
+
+    private Cached<SearchRegionNewsResponseDto> cached(SearchRegionNewsResponseDto response) {
+        return new Cached<>(response, System.currentTimeMillis(), null,
+                new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30)));
+    }
+}
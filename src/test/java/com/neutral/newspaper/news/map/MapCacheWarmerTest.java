@@ -0,0 +1,134 @@
+package com.neutral.newspaper.news.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.neutral.newspaper.news.map.service.MapCacheWarmer;
+import com.neutral.newspaper.news.map.service.MapCacheWarmerProperties;
+import com.neutral.newspaper.news.map.service.MapCacheWarmerProperties.Pair;
+import com.neutral.newspaper.news.map.service.MapPopularityTracker;
+import com.neutral.newspaper.news.map.service.MapService;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+public class MapCacheWarmerTest {
+
+    @Mock
+    private MapService mapService;
+
+    @Mock
+    private MapPopularityTracker mapPopularityTracker;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private MapCacheWarmerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MapCacheWarmerProperties();
+        properties.setInterval(Duration.ofMinutes(1));
+        properties.setMaxRefreshesPerSecond(2);
+        properties.setPopularPairs(3);
+        properties.setPopularityWindowHours(3);
+    }
+
+    @Test
+    @DisplayName("설정된 조합과 인기 조합 중 곧 만료되는 조합만 원래 지역/카테고리로 갱신")
+    void refreshExpiringPairs() {
+        // given
+        properties.setJitter(Duration.ZERO);
+        properties.setPairs(List.of(pair("서울", "축제")));
+        given(mapPopularityTracker.topPairs(3, 3)).willReturn(List.of(
+                new String[]{"서울 ", "축제"}, new String[]{"부산", "맛집"}, new String[]{"Jeju", "여행"}));
+        given(mapService.remainingFreshMillis("서울", "축제")).willReturn(-1L);
+        given(mapService.remainingFreshMillis("부산", "맛집")).willReturn(Duration.ofMinutes(10).toMillis());
+        given(mapService.remainingFreshMillis("Jeju", "여행")).willReturn(-1L);
+
+        // when
+        warmer().warm();
+
+        // then
+        List<Runnable> tasks = scheduledTasks(2);
+        tasks.forEach(Runnable::run);
+        then(mapService).should().warmRegionNews("서울", "축제");
+        then(mapService).should().warmRegionNews("Jeju", "여행");
+        then(mapService).should(times(2)).warmRegionNews(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("연속한 갱신 사이는 jitter와 무관하게 초당 상한을 지키는 간격 이상 벌어짐")
+    void spaceRefreshesByRate() {
+        // given
+        properties.setJitter(Duration.ofMillis(200));
+        List<Pair> pairs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pairs.add(pair("지역" + i, "축제"));
+        }
+        properties.setPairs(pairs);
+        given(mapPopularityTracker.topPairs(3, 3)).willReturn(List.of());
+        given(mapService.remainingFreshMillis(anyString(), anyString())).willReturn(-1L);
+
+        // when
+        warmer().warm();
+
+        // then
+        ArgumentCaptor<Instant> instants = ArgumentCaptor.forClass(Instant.class);
+        then(taskScheduler).should(times(10)).schedule(any(Runnable.class), instants.capture());
+        List<Instant> scheduled = instants.getAllValues();
+        for (int i = 1; i < scheduled.size(); i++) {
+            assertThat(Duration.between(scheduled.get(i - 1), scheduled.get(i)).toMillis()).isBetween(500L, 700L);
+        }
+    }
+
+    @Test
+    @DisplayName("초당 상한이 0 이하인 설정은 거부")
+    void rejectNonPositiveRate() {
+        // when, then
+        assertThatThrownBy(() -> new MapCacheWarmerProperties().setMaxRefreshesPerSecond(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 이 노드가 lease를 얻은 상태의 워머
+    private MapCacheWarmer warmer() {
+        given(redisService.saveDataIfAbsent(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .willReturn(true);
+        return new MapCacheWarmer(mapService, mapPopularityTracker, properties, redisService, taskScheduler);
+    }
+
+    private List<Runnable> scheduledTasks(int expected) {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should(times(expected)).schedule(tasks.capture(), any(Instant.class));
+        return tasks.getAllValues();
+    }
+
+    private Pair pair(String region, String category) {
+        Pair pair = new Pair();
+        pair.setRegion(region);
+        pair.setCategory(category);
+        return pair;
+    }
+}
@@ -1,17 +1,27 @@
 package com.neutral.newspaper.news.map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.news.cache.NewsCacheProperties.Policy;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
 import com.neutral.newspaper.news.map.controller.MapController;
+import com.neutral.newspaper.news.map.domain.MapBatchRequestDto;
+import com.neutral.newspaper.news.map.domain.MapBatchResponseDto;
 import com.neutral.newspaper.news.map.domain.NewsInfoDto;
 import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.MapBatchService;
 import com.neutral.newspaper.news.map.service.MapService;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +40,9 @@ public class MapControllerTest {
     @MockitoBean
     private MapService mapService;
 
+    @MockitoBean
+    private MapBatchService mapBatchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,7 +60,8 @@ public class MapControllerTest {
                 "서울", "축제", List.of(newsInfo)
         );
 
-        when(mapService.findRegionNews(anyString(), anyString())).thenReturn(response);
+        when(mapService.findRegionNews(anyString(), anyString())).thenReturn(new Cached<>(
+                response, System.currentTimeMillis(), null, new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30))));
 
         // when, then
         mockMvc.perform(post("/map")
@@ -57,4 +71,55 @@ public class MapControllerTest {
                         .with(csrf()))
                 .andExpect(status().isOk());
     }
+
+    @WithMockUser
+    @Test
+    @DisplayName("여러 지역 뉴스 일괄 검색 성공 시 200 반환")
+    void successGettingRegionNewsBatch() throws Exception {
+        // given
+        MapBatchRequestDto batchRequest = new MapBatchRequestDto(List.of("서울", "부산"), List.of("축제"));
+        NewsInfoDto newsInfo = new NewsInfoDto(
+                "축제 뉴스 제목", "http://examplenews.com", "축제 뉴스 설명"
+        );
+        MapBatchResponseDto response = new MapBatchResponseDto(
+                Map.of("서울", List.of(newsInfo), "부산", List.of()), List.of()
+        );
+
+        when(mapBatchService.findRegionNewsBatch(any())).thenReturn(response);
+
+        // when, then
+        mockMvc.perform(post("/map/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("GET 조회는 ETag를 반환하고 같은 ETag로 다시 요청하면 304 반환")
+    void returnNotModifiedForMatchingEtag() throws Exception {
+        // given
+        NewsInfoDto newsInfo = new NewsInfoDto(
+                "축제 뉴스 제목", "http://examplenews.com", "축제 뉴스 설명"
+        );
+        Cached<SearchRegionNewsResponseDto> cached = new Cached<>(
+                new SearchRegionNewsResponseDto("서울", "축제", List.of(newsInfo)), System.currentTimeMillis(),
+                "\"map-etag\"", new Policy(Duration.ofMinutes(10), Duration.ofMinutes(30)));
+
+        when(mapService.findRegionNews(anyString(), anyString())).thenReturn(cached);
+
+        // when, then
+        mockMvc.perform(get("/map")
+                        .param("region", "서울")
+                        .param("category", "축제"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"map-etag\""));
+
+        mockMvc.perform(get("/map")
+                        .param("region", "서울")
+                        .param("category", "축제")
+                        .header("If-None-Match", "\"map-etag\""))
+                .andExpect(status().isNotModified());
+    }
 }
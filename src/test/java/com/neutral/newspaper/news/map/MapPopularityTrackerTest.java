@@ -0,0 +1,78 @@
+package com.neutral.newspaper.news.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.neutral.newspaper.news.map.service.MapPopularityTracker;
+import com.neutral.newspaper.redis.RedisService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MapPopularityTrackerTest {
+
+    @InjectMocks
+    private MapPopularityTracker mapPopularityTracker;
+
+    @Mock
+    private RedisService redisService;
+
+    @Test
+    @DisplayName("표기만 다른 요청은 같은 조합으로 합산")
+    void normalizeMembers() {
+        // given
+        mapPopularityTracker.record("서울", "축제");
+        mapPopularityTracker.record(" 서울  ", "축제 ");
+
+        // when
+        mapPopularityTracker.flush();
+
+        // then
+        then(redisService).should().incrementScore(anyString(), eq("서울|축제"), eq(2.0), anyLong(), eq(TimeUnit.HOURS));
+    }
+
+    @Test
+    @DisplayName("합산한 조합은 다음 주기에 다시 보내지 않음")
+    void removeFlushedMembers() {
+        // given
+        mapPopularityTracker.record("서울", "축제");
+        mapPopularityTracker.flush();
+
+        // when
+        mapPopularityTracker.flush();
+
+        // then
+        then(redisService).should(times(1))
+                .incrementScore(anyString(), anyString(), anyDouble(), anyLong(), eq(TimeUnit.HOURS));
+    }
+
+    @Test
+    @DisplayName("인기 조합은 정규화한 값으로 집계하고 요청에 들어온 원래 값으로 반환")
+    void returnOriginalPairs() {
+        // given
+        given(redisService.getTopScores(anyString(), eq(2)))
+                .willReturn(Map.of("jeju|여행", 3.0, "서울|축제", 5.0), Map.of());
+        given(redisService.getHashEntries(anyList()))
+                .willReturn(List.of(Map.of("jeju|여행", "Jeju|여행"), Map.of()));
+
+        // when
+        List<String[]> pairs = mapPopularityTracker.topPairs(2, 2);
+
+        // then
+        assertThat(pairs).extracting(pair -> pair[0] + "/" + pair[1]).containsExactly("서울/축제", "Jeju/여행");
+    }
+}
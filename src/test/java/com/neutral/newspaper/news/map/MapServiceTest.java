@@ -1,14 +1,21 @@
 package com.neutral.newspaper.news.map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.cache.NewsCacheService.Cached;
 import com.neutral.newspaper.news.map.domain.NewsInfoDto;
 import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.MapPopularityTracker;
 import com.neutral.newspaper.news.map.service.MapService;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +34,18 @@ public class MapServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private NewsCacheService newsCacheService;
+
+    @Mock
+    private NewsCacheProperties newsCacheProperties;
+
+    @Mock
+    private NewsBackendGuard newsBackendGuard;
+
+    @Mock
+    private MapPopularityTracker mapPopularityTracker;
+
     @Test
     @DisplayName("지역 뉴스 검색 성공 케이스")
     void successFindingRegionNews() {
@@ -43,8 +62,15 @@ public class MapServiceTest {
                 anyString(), eq(SearchRegionNewsResponseDto.class), anyString(), anyString()
         )).thenReturn(ResponseEntity.ok(response));
 
+        // 캐시 미스 상황을 가정해서 로더를 그대로 실행
+        when(newsCacheService.getOrLoadCached(anyString(), eq(SearchRegionNewsResponseDto.class), any(), any()))
+                .thenAnswer(invocation -> new Cached<>(invocation.<Supplier<?>>getArgument(3).get(),
+                        System.currentTimeMillis(), null, invocation.getArgument(2)));
+        when(newsBackendGuard.call(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         // when
-        SearchRegionNewsResponseDto result = mapService.findRegionNews("서울", "경제");
+        SearchRegionNewsResponseDto result = mapService.findRegionNews("서울", "경제").value();
 
         // then
         assertThat(result).isNotNull();
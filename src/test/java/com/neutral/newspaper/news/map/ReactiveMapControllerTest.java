@@ -0,0 +1,108 @@
+package com.neutral.newspaper.news.map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.map.controller.ReactiveMapController;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.ReactiveMapService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(ReactiveMapController.class)
+public class ReactiveMapControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveMapService reactiveMapService;
+
+    @WithMockUser
+    @Test
+    @DisplayName("지역 뉴스 검색 성공 시 200 반환")
+    void successGettingRegionNews() throws Exception {
+        // given
+        given(reactiveMapService.findRegionNews(anyString(), anyString())).willReturn(Mono.just(
+                new SearchRegionNewsResponseDto("서울", "축제",
+                        List.of(new NewsInfoDto("축제 뉴스 제목", "http://examplenews.com", "축제 뉴스 설명")))));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/map/reactive")
+                        .param("region", "서울")
+                        .param("category", "축제")
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.news[0].title").value("축제 뉴스 제목"));
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("요약 서버가 불안정하고 대체 응답도 없으면 503 반환")
+    void degradedBackend() throws Exception {
+        // given
+        given(reactiveMapService.findRegionNews(anyString(), anyString()))
+                .willReturn(Mono.error(new CustomException(ErrorType.NEWS_BACKEND_DEGRADED)));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/map/reactive")
+                        .param("region", "서울")
+                        .param("category", "축제")
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value(ErrorType.NEWS_BACKEND_DEGRADED.getCode()));
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("기사가 없으면 빈 NDJSON 스트림 반환")
+    void streamEmptyNews() throws Exception {
+        // given
+        given(reactiveMapService.streamRegionNews(anyString(), anyString())).willReturn(Flux.empty());
+
+        // when
+        MvcResult result = mockMvc.perform(post("/map/reactive/stream")
+                        .param("region", "서울")
+                        .param("category", "축제")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(""));
+    }
+}
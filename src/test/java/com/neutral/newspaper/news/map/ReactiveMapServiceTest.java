@@ -0,0 +1,149 @@
+package com.neutral.newspaper.news.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.global.ErrorType;
+import com.neutral.newspaper.news.backend.NewsBackendGuard;
+import com.neutral.newspaper.news.backend.NewsBackendProperties;
+import com.neutral.newspaper.news.cache.NewsCacheKey;
+import com.neutral.newspaper.news.cache.NewsCacheProperties;
+import com.neutral.newspaper.news.cache.NewsCacheService;
+import com.neutral.newspaper.news.cache.NewsLocalCache;
+import com.neutral.newspaper.news.map.domain.NewsInfoDto;
+import com.neutral.newspaper.news.map.domain.SearchRegionNewsResponseDto;
+import com.neutral.newspaper.news.map.service.ReactiveMapService;
+import com.neutral.newspaper.redis.RedisService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveMapServiceTest {
+
+    private static final String KEY = NewsCacheKey.of("map", "서울", "축제");
+
+    @Mock
+    private RedisService redisService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final AtomicInteger backendCalls = new AtomicInteger();
+
+    private NewsCacheService newsCacheService;
+    private NewsBackendGuard newsBackendGuard;
+
+    @BeforeEach
+    void setUp() {
+        NewsCacheProperties properties = new NewsCacheProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(new SyncTaskExecutor());
+        newsCacheService = new NewsCacheService(redisService, objectMapper, executor, properties,
+                new NewsLocalCache(properties, meterRegistry), meterRegistry);
+        newsBackendGuard = new NewsBackendGuard(circuitBreakerRegistry, new NewsBackendProperties(), executor,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsBackendGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("news가 없는 응답은 빈 기사 스트림으로 전달")
+    void streamNullNewsAsEmpty() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        ReactiveMapService service = service(HttpStatus.OK, "{\"region\":\"서울\",\"category\":\"축제\"}");
+
+        // when, then
+        StepVerifier.create(service.streamRegionNews("서울", "축제"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("요약 서버가 5xx로 실패하면 마지막 정상 응답으로 대체")
+    void fallbackOnServerError() throws Exception {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        given(redisService.getData(KEY + ":last-good")).willReturn(objectMapper.writeValueAsString(response()));
+        ReactiveMapService service = service(HttpStatus.INTERNAL_SERVER_ERROR, "{}");
+
+        // when, then
+        StepVerifier.create(service.streamRegionNews("서울", "축제"))
+                .assertNext(news -> assertThat(news.getTitle()).isEqualTo("축제 뉴스 제목"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 요약 서버를 호출하지 않고 503으로 실패")
+    void rejectWhenCircuitIsOpen() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        given(redisService.getData(KEY + ":last-good")).willReturn(null);
+        circuitBreakerRegistry.circuitBreaker(NewsBackendGuard.MAP_BACKEND).transitionToOpenState();
+        ReactiveMapService service = service(HttpStatus.OK, "{}");
+
+        // when, then
+        StepVerifier.create(service.findRegionNews("서울", "축제"))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(CustomException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.NEWS_BACKEND_DEGRADED))
+                .verify();
+        assertThat(backendCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("요약 서버가 4xx로 거절하면 대체 응답 없이 400으로 실패")
+    void rejectClientError() {
+        // given
+        given(redisService.getData(KEY)).willReturn(null);
+        ReactiveMapService service = service(HttpStatus.BAD_REQUEST, "{}");
+
+        // when, then
+        StepVerifier.create(service.findRegionNews("서울", "축제"))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(CustomException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.NEWS_BACKEND_REJECTED))
+                .verify();
+    }
+
+    private ReactiveMapService service(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    backendCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactiveMapService(webClient, newsCacheService, new NewsCacheProperties(), newsBackendGuard);
+    }
+
+    private SearchRegionNewsResponseDto response() {
+        return new SearchRegionNewsResponseDto(
+                "서울", "축제", List.of(new NewsInfoDto("축제 뉴스 제목", "http://examplenews.com", "축제 뉴스 내용"))
+        );
+    }
+}
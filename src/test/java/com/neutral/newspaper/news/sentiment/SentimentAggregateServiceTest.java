@@ -0,0 +1,124 @@
+package com.neutral.newspaper.news.sentiment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.neutral.newspaper.global.CustomException;
+import com.neutral.newspaper.news.article.ArticleRepository;
+import com.neutral.newspaper.news.keyword.domain.NewsSummaryDto;
+import com.neutral.newspaper.news.sentiment.domain.SentimentTrendDto;
+import com.neutral.newspaper.news.sentiment.service.SentimentAggregateService;
+import com.neutral.newspaper.news.sentiment.service.SentimentProperties;
+import com.neutral.newspaper.redis.RedisService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+public class SentimentAggregateServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private SentimentAggregateService sentimentAggregateService;
+
+    @BeforeEach
+    void setUp() {
+        sentimentAggregateService =
+                new SentimentAggregateService(redisService, articleRepository, new SentimentProperties());
+    }
+
+    @Test
+    @DisplayName("기사 목록을 스크립트 한 번으로 일별 해시에 집계")
+    @SuppressWarnings("unchecked")
+    void recordInOneRoundTrip() {
+        // given
+        List<NewsSummaryDto> news = List.of(
+                new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1), "본문", "긍정", "요약"),
+                new NewsSummaryDto("제목", "http://examplenews.com/2", LocalDate.of(2025, 1, 2), "본문", null, "요약"));
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+        // when
+        int recorded = sentimentAggregateService.record("삼성전자", news);
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisService).executeScript(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(recorded).isEqualTo(2);
+        assertThat(keys.getValue()).containsExactly(
+                "news:sentiment:{삼성전자}:20250101:seen",
+                "news:sentiment:{삼성전자}:20250101",
+                "news:sentiment:{삼성전자}:20250102:seen",
+                "news:sentiment:{삼성전자}:20250102");
+        assertThat(args.getValue()).hasSize(6).contains("긍정", "unknown");
+    }
+
+    @Test
+    @DisplayName("중복 확인용 기사 목록은 날짜로 정해진 시각에 만료")
+    @SuppressWarnings("unchecked")
+    void expireSeenSetByDay() {
+        // given
+        NewsSummaryDto news = new NewsSummaryDto("제목", "http://examplenews.com/1", LocalDate.of(2025, 1, 1),
+                "본문", "긍정", "요약");
+        when(redisService.executeScript(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // when
+        sentimentAggregateService.record("삼성전자", List.of(news));
+        sentimentAggregateService.record("삼성전자", List.of(news));
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisService, times(2)).executeScript(any(RedisScript.class), anyList(), args.capture());
+        long expected = LocalDate.of(2025, 1, 1).atStartOfDay(ZoneId.systemDefault())
+                .plus(new SentimentProperties().getRetention())
+                .toInstant()
+                .toEpochMilli();
+        assertThat(args.getAllValues()).allSatisfy(values -> assertThat(values[2]).isEqualTo(String.valueOf(expected)));
+    }
+
+    @Test
+    @DisplayName("기간의 일별 감정 분포를 반환")
+    void getTrend() {
+        // given
+        when(redisService.getHashEntries(List.of(
+                "news:sentiment:{삼성전자}:20250101",
+                "news:sentiment:{삼성전자}:20250102")))
+                .thenReturn(List.of(Map.of("긍정", "3", "부정", "1"), Map.of()));
+
+        // when
+        SentimentTrendDto trend = sentimentAggregateService.getTrend(
+                "삼성전자", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2));
+
+        // then
+        assertThat(trend.getDays()).hasSize(2);
+        assertThat(trend.getDays().get(0).getCounts()).containsEntry("긍정", 3L).containsEntry("부정", 1L);
+        assertThat(trend.getDays().get(1).getCounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외 발생")
+    void failWithInvalidRange() {
+        // when, then
+        assertThatThrownBy(() -> sentimentAggregateService.getTrend(
+                "삼성전자", LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.neutral.newspaper.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neutral.newspaper.ratelimit.RateLimitProperties.Rule;
+import com.neutral.newspaper.ratelimit.RedisRateLimiter.Decision;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitFilterTest {
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        Rule rule = new Rule();
+        rule.setName("keyword");
+        rule.setPaths(List.of("/keyword", "/keyword/**"));
+        rule.setCapacity(1);
+        rule.setRefillPerSecond(0.5);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        rateLimitFilter = new RateLimitFilter(redisRateLimiter, properties, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 회원의 요청은 429와 Retry-After로 바로 응답")
+    void rejectOverBudget() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@email.com", "", List.of()));
+        given(redisRateLimiter.tryAcquire(any(Rule.class), eq("member:user@email.com")))
+                .willReturn(new Decision(false, 1500));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/keyword"), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("규칙에 해당하지 않는 경로는 확인하지 않고 통과")
+    void skipUnmatchedPath() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/member/login"),
+                new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        then(redisRateLimiter).should(never()).tryAcquire(any(Rule.class), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰이 채워지지 않거나 버킷이 비어 있는 규칙은 거부")
+    void rejectInvalidRule() {
+        // when, then
+        assertThatThrownBy(() -> new Rule().setRefillPerSecond(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Rule().setCapacity(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}